@@ -0,0 +1,125 @@
+package com.tuproyecto.cagaroad.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Punto de entrada de los benchmarks. Ejecuta JMH con el perfilador de GC (tasa de asignación por
+ * operación), guarda los resultados en CSV y, si existe, los compara con la línea base guardada
+ * en el repositorio.
+ * <p>
+ * Uso: {@code java -jar target/benchmarks.jar [opciones de JMH]}.
+ * Para actualizar la línea base: copiar {@code target/jmh-result.csv} a {@code baseline.csv}.
+ */
+public class BenchmarkMain {
+
+    private static final Path RESULT_FILE = Paths.get("target", "jmh-result.csv");
+    private static final Path BASELINE_FILE = Paths.get("baseline.csv");
+
+    public static void main(String[] args) throws RunnerException, IOException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.CSV)
+                .result(RESULT_FILE.toString())
+                .build();
+
+        Files.createDirectories(RESULT_FILE.getParent());
+        Collection<RunResult> results = new Runner(options).run();
+
+        if (Files.exists(BASELINE_FILE)) {
+            compareWithBaseline(results);
+        } else {
+            System.out.println("No hay " + BASELINE_FILE + "; se omite la comparación con la línea base.");
+        }
+    }
+
+    private static void compareWithBaseline(Collection<RunResult> results) throws IOException {
+        Map<String, Double> baseline = readScores(Files.readAllLines(BASELINE_FILE, StandardCharsets.UTF_8));
+
+        System.out.println();
+        System.out.println("Comparación con " + BASELINE_FILE + ":");
+        for (RunResult result : results) {
+            String key = keyOf(result.getParams().getBenchmark(), result.getParams().getParam("obstacleCount"));
+            double score = result.getPrimaryResult().getScore();
+            Double previous = baseline.get(key);
+            if (previous == null || previous == 0) {
+                System.out.printf("  %-80s %12.3f (sin línea base)%n", key, score);
+            } else {
+                System.out.printf("  %-80s %12.3f  antes %12.3f  (%+.1f%%)%n", key, score, previous, (score - previous) / previous * 100);
+            }
+        }
+    }
+
+    /**
+     * Lee las puntuaciones principales de un CSV de JMH (se ignoran las métricas secundarias como gc.alloc.rate).
+     */
+    private static Map<String, Double> readScores(List<String> lines) {
+        Map<String, Double> scores = new HashMap<>();
+        if (lines.isEmpty()) {
+            return scores;
+        }
+        List<String> header = splitCsv(lines.get(0));
+        int benchmarkColumn = header.indexOf("Benchmark");
+        int scoreColumn = header.indexOf("Score");
+        int paramColumn = header.indexOf("Param: obstacleCount");
+        for (String line : lines.subList(1, lines.size())) {
+            List<String> cells = splitCsv(line);
+            if (benchmarkColumn < 0 || scoreColumn < 0 || cells.size() <= scoreColumn) {
+                continue;
+            }
+            String benchmark = cells.get(benchmarkColumn);
+            if (benchmark.contains(":")) {
+                continue; // Métrica secundaria de un perfilador
+            }
+            String param = paramColumn >= 0 && paramColumn < cells.size() ? cells.get(paramColumn) : null;
+            try {
+                scores.put(keyOf(benchmark, param), Double.parseDouble(cells.get(scoreColumn).replace(',', '.')));
+            } catch (NumberFormatException e) {
+                // Fila con formato inesperado; se ignora
+            }
+        }
+        return scores;
+    }
+
+    private static String keyOf(String benchmark, String obstacleCount) {
+        return obstacleCount == null || obstacleCount.isEmpty() ? benchmark : benchmark + " obstacleCount=" + obstacleCount;
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
@@ -0,0 +1,52 @@
+package com.tuproyecto.cagaroad.bot;
+
+import com.tuproyecto.cagaroad.simulation.PlayerInput;
+import com.tuproyecto.cagaroad.simulation.Simulation;
+import com.tuproyecto.cagaroad.simulation.StepResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de una decisión del piloto automático más el paso de simulación que la aplica,
+ * jugando partidas del Modo Infinito reales.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class AutopilotBotBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int WARM_UP_TICKS = 500;
+
+    private Simulation simulation;
+    private AutopilotBot bot;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        simulation = new Simulation(SEED);
+        simulation.reset(0, SEED);
+        bot = new AutopilotBot();
+        // Avanza hasta tener varias oleadas en pantalla para que decide() vea obstáculos
+        for (int i = 0; i < WARM_UP_TICKS; i++) {
+            simulation.step(bot.decide(simulation));
+        }
+    }
+
+    @Benchmark
+    public PlayerInput decide() {
+        return bot.decide(simulation);
+    }
+
+    @Benchmark
+    public StepResult decideAndStep() {
+        StepResult result = simulation.step(bot.decide(simulation));
+        if (result != StepResult.RUNNING) {
+            simulation.reset(0, SEED);
+        }
+        return result;
+    }
+}
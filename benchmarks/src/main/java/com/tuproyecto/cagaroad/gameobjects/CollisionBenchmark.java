@@ -0,0 +1,48 @@
+package com.tuproyecto.cagaroad.gameobjects;
+
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PlayerCar.checkCollision (aritmética de enteros) frente a la versión anterior con dos Rectangle.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CollisionBenchmark {
+
+    private PlayerCar player;
+    private ObstacleCar nearObstacle;
+    private ObstacleCar farObstacle;
+
+    @Setup
+    public void setUp() {
+        player = new PlayerCar(Color.RED);
+        Rectangle bounds = player.getBounds();
+        int x = bounds.x - SimConstants.HITBOX_MARGIN;
+        int y = bounds.y - SimConstants.HITBOX_MARGIN;
+        nearObstacle = new ObstacleCar(x, y - SimConstants.CAR_HEIGHT / 2, Color.BLUE);
+        farObstacle = new ObstacleCar(x, -SimConstants.CAR_HEIGHT, Color.GREEN);
+    }
+
+    @Benchmark
+    public boolean checkCollisionHit() {
+        return player.checkCollision(nearObstacle);
+    }
+
+    @Benchmark
+    public boolean checkCollisionMiss() {
+        return player.checkCollision(farObstacle);
+    }
+
+    @Benchmark
+    public boolean rectangleIntersectsHit() {
+        return player.getBounds().intersects(nearObstacle.getBounds());
+    }
+}
@@ -0,0 +1,75 @@
+package com.tuproyecto.cagaroad.level;
+
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectura de una pista muy larga (un millón de oleadas, unos 6 MB). "openAndFirstWave" es lo que
+ * cuesta empezar un nivel (solo la cabecera y la primera oleada, sin importar el largo de la pista),
+ * "nextWave" es lo que paga la simulación cada vez que aparece una oleada y "seek" es restaurar una
+ * instantánea en un punto cualquiera de la pista. Ninguno debería depender del tamaño del archivo.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TrackLoaderBenchmark {
+
+    private static final int WAVES = 1_000_000;
+
+    private Path file;
+    private TrackWaveSource source;
+    private long seekTarget;
+
+    @Setup(Level.Trial)
+    public void writeTrack() throws IOException {
+        file = Files.createTempFile("cagaroad-track", ".cgl");
+        int[] colorByLane = new int[SimConstants.NUM_LANES];
+        try (TrackWriter writer = new TrackWriter(Files.newOutputStream(file), WAVES * SimConstants.WAVE_SPACING, WAVES)) {
+            for (int wave = 0; wave < WAVES; wave++) {
+                colorByLane[wave % SimConstants.NUM_LANES] = wave % SimConstants.OBSTACLE_COLOR_COUNT;
+                writer.writeWave(SimConstants.WAVE_SPACING, 1 << (wave % SimConstants.NUM_LANES), colorByLane);
+            }
+        }
+        source = TrackWaveSource.fromFile(file);
+        source.reset(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteTrack() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int openAndFirstWave() throws IOException {
+        TrackWaveSource track = TrackWaveSource.fromFile(file);
+        track.reset(0);
+        track.next();
+        int lane = track.getLane(0);
+        track.reset(0); // Cierra el stream
+        return lane;
+    }
+
+    @Benchmark
+    public int nextWave() {
+        if (!source.next()) {
+            source.reset(0);
+            source.next();
+        }
+        return source.getLane(0);
+    }
+
+    @Benchmark
+    public int seek() {
+        seekTarget = (seekTarget + 499_979) % WAVES; // Saltos grandes hacia adelante y hacia atrás
+        source.setPosition(seekTarget);
+        return source.getLane(0);
+    }
+}
@@ -0,0 +1,64 @@
+package com.tuproyecto.cagaroad.rendering;
+
+import com.tuproyecto.cagaroad.gameobjects.Road;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dibujo de la carretera y de los coches sobre una imagen fuera de pantalla:
+ * la versión en caché (textura / sprite) frente al dibujo figura por figura.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DrawBenchmark {
+
+    private BufferedImage target;
+    private Graphics2D g2d;
+    private Road road;
+    private int frame;
+
+    @Setup
+    public void setUp() {
+        target = new BufferedImage(SimConstants.GAME_WIDTH, SimConstants.GAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        g2d = target.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        road = new Road();
+    }
+
+    @TearDown
+    public void tearDown() {
+        g2d.dispose();
+    }
+
+    @Benchmark
+    public void roadDrawTile() {
+        road.move(SimConstants.GAME_SPEED_BASE);
+        road.drawTile(g2d);
+    }
+
+    @Benchmark
+    public void roadDrawUncached() {
+        road.move(SimConstants.GAME_SPEED_BASE);
+        road.drawUncached(g2d);
+    }
+
+    @Benchmark
+    public void carSprite() {
+        Color color = Palette.OBSTACLE_COLORS[frame++ % SimConstants.OBSTACLE_COLOR_COUNT];
+        CarSpriteCache.drawCar(g2d, color, 300, 200);
+    }
+
+    @Benchmark
+    public void carShapes() {
+        Color color = Palette.OBSTACLE_COLORS[frame++ % SimConstants.OBSTACLE_COLOR_COUNT];
+        CarSpriteCache.paintCar(g2d, color, 300, 200);
+    }
+}
@@ -0,0 +1,54 @@
+package com.tuproyecto.cagaroad.replay;
+
+import com.tuproyecto.cagaroad.simulation.PlayerInput;
+import com.tuproyecto.cagaroad.utils.GameConstants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de grabar la entrada de un paso. "idle" es el caso habitual (sin cambio de carril, no se
+ * escribe nada) y "laneChange" codifica una entrada; ninguno debería asignar memoria (gc.alloc.rate.norm ~ 0).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class InputRecorderBenchmark {
+
+    private static final int TICKS_PER_RECORDING = 100_000;
+
+    private InputRecorder recorder;
+    private long tick;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        recorder = new InputRecorder(GameConstants.REPLAY_SNAPSHOT_INTERVAL_TICKS);
+        restart();
+    }
+
+    @Benchmark
+    public void idle() {
+        recorder.record(nextTick(), PlayerInput.NONE);
+    }
+
+    @Benchmark
+    public void laneChange() {
+        long t = nextTick();
+        recorder.record(t, (t & 1) == 0 ? PlayerInput.LEFT : PlayerInput.RIGHT);
+    }
+
+    private long nextTick() {
+        if (++tick == TICKS_PER_RECORDING) {
+            restart(); // Vuelve a empezar para que el buffer no crezca durante la medición
+        }
+        return tick;
+    }
+
+    private void restart() {
+        recorder.start(42L, 1, 0xFFFF0000);
+        tick = 0;
+    }
+}
@@ -0,0 +1,71 @@
+package com.tuproyecto.cagaroad.simulation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendimiento de un paso de la simulación (lo que antes era GamePanel.updateGame) con distintas
+ * cantidades de obstáculos vivos. Los obstáculos se reparten por la pantalla en los carriles que no
+ * ocupa el jugador. Cada invocación restaura la misma instantánea y mide un lote de STEPS pasos en
+ * el que no aparece ninguna oleada ni sale ningún obstáculo, así que la cantidad es exactamente
+ * obstacleCount en todos los pasos medidos (se comprueba al preparar el benchmark).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SimulationTickBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int STEPS = 32; // Pasos por invocación; reparte el costo de medir cada invocación
+    // Los obstáculos empiezan lo bastante arriba para no llegar a cullY en STEPS pasos (a menos de 8 px por paso)
+    private static final int SPREAD = SimConstants.GAME_HEIGHT - STEPS * 8;
+
+    @Param({"0", "16", "256", "4096"})
+    public int obstacleCount;
+
+    private Simulation simulation;
+    private ByteBuffer snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulation = new Simulation(SEED);
+        simulation.reset(0, SEED);
+        ObstacleStore obstacles = simulation.getObstacles();
+        int playerLane = simulation.getPlayerLane();
+        for (int i = 0; i < obstacleCount; i++) {
+            int lane = (playerLane + 1 + i % (SimConstants.NUM_LANES - 1)) % SimConstants.NUM_LANES;
+            int y = -SimConstants.CAR_HEIGHT + (i * 7) % SPREAD;
+            obstacles.acquire(Simulation.laneToX(lane), y, lane, i % SimConstants.OBSTACLE_COLOR_COUNT);
+        }
+        snapshot = ByteBuffer.allocate(simulation.getSnapshotSize());
+        simulation.writeSnapshot(snapshot);
+
+        restore();
+        for (int i = 0; i < STEPS; i++) {
+            if (simulation.step(PlayerInput.NONE) != StepResult.RUNNING || simulation.getObstacleCount() != obstacleCount) {
+                throw new IllegalStateException("La cantidad de obstáculos cambió en el paso " + (i + 1));
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        snapshot.rewind();
+        simulation.readSnapshot(snapshot);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public StepResult tick() {
+        StepResult result = StepResult.RUNNING;
+        for (int i = 0; i < STEPS; i++) {
+            result = simulation.step(PlayerInput.NONE);
+        }
+        return result;
+    }
+}
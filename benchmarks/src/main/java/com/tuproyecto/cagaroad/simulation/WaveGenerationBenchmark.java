@@ -0,0 +1,32 @@
+package com.tuproyecto.cagaroad.simulation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de generar una oleada de obstáculos (elección de carriles y colores).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class WaveGenerationBenchmark {
+
+    private Simulation simulation;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        simulation = new Simulation(42L);
+        simulation.reset(0, 42L);
+    }
+
+    @Benchmark
+    public int generateObstaclesWave() {
+        simulation.getObstacles().clear();
+        simulation.generateObstaclesWave();
+        return simulation.getObstacleCount();
+    }
+}
@@ -1,20 +1,28 @@
 package com.tuproyecto.cagaroad;
 
 import com.tuproyecto.cagaroad.panels.*;
-import com.tuproyecto.cagaroad.utils.GameConstants;
+import com.tuproyecto.cagaroad.perf.StartupTimeline;
+import com.tuproyecto.cagaroad.rendering.Palette;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import com.tuproyecto.cagaroad.utils.GameLogger;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyEvent;
+import java.util.ArrayDeque;
 import java.util.Set;
 
 /**
  * GameFrame es la ventana principal (JFrame) de la aplicación CAGAROAD.
  * Utiliza CardLayout para cambiar entre las diferentes pantallas (paneles) del juego.
  * Gestiona el estado general del juego y la interacción entre los paneles.
+ * Los paneles se crean la primera vez que se necesitan: al arrancar solo se construye el splash,
+ * y los del menú y el juego se van creando de uno en uno en el EDT mientras se muestra el splash.
  */
 public class GameFrame extends JFrame {
 
+    private static final GameLogger LOG = GameLogger.get("GameFrame");
+
     private CardLayout cardLayout;
     private JPanel mainPanel;
 
@@ -28,12 +36,18 @@ public class GameFrame extends JFrame {
 
     private GameState currentGameState;
 
+    // Paneles que se construyen durante el splash, uno por evento del EDT, en este orden
+    private static final GameState[] PREBUILT_STATES = {
+            GameState.MENU, GameState.LEVEL_SELECT, GameState.CUSTOMIZE, GameState.PLAYING
+    };
+    private final ArrayDeque<GameState> prebuildQueue = new ArrayDeque<>();
+
     /**
      * Constructor del GameFrame. Configura la ventana y los paneles iniciales.
      */
     public GameFrame() {
         setTitle("CAGAROAD - Director´s cut");
-        setSize(GameConstants.GAME_WIDTH, GameConstants.GAME_HEIGHT);
+        setSize(SimConstants.GAME_WIDTH, SimConstants.GAME_HEIGHT);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setResizable(false);
         setLocationRelativeTo(null); //(esto solo hace que aparezca en el centro de la pantalla el juego
@@ -45,23 +59,78 @@ public class GameFrame extends JFrame {
         mainPanel = new JPanel(cardLayout);
         add(mainPanel);
 
-        splashPanel = new SplashPanel(this);
-        mainMenuPanel = new MainMenuPanel(this);
-        levelSelectPanel = new LevelSelectPanel(this);
-        customizePanel = new CustomizePanel(this);
-        gamePanel = new GamePanel(this);
-        victoryPanel = new VictoryPanel(this);
-        defeatPanel = new DefeatPanel(this); // Inicializa DefeatPanel
-
-        mainPanel.add(splashPanel, GameState.SPLASH.name());
-        mainPanel.add(mainMenuPanel, GameState.MENU.name());
-        mainPanel.add(levelSelectPanel, GameState.LEVEL_SELECT.name());
-        mainPanel.add(customizePanel, GameState.CUSTOMIZE.name());
-        mainPanel.add(gamePanel, GameState.PLAYING.name());
-        mainPanel.add(victoryPanel, GameState.VICTORY.name());
-        mainPanel.add(defeatPanel, GameState.DEFEAT.name());
-
         setGameState(GameState.SPLASH);
+        StartupTimeline.mark(StartupTimeline.Milestone.FRAME_BUILT);
+    }
+
+    /**
+     * Construye en segundo plano (en ratos libres del EDT) los paneles que aún no existen.
+     * Lo llama el SplashPanel tras dibujar su primer fotograma, para no retrasarlo.
+     */
+    public void prebuildPanels() {
+        for (GameState state : PREBUILT_STATES) {
+            prebuildQueue.add(state);
+        }
+        SwingUtilities.invokeLater(this::prebuildNextPanel);
+    }
+
+    // Un panel por evento, para que el splash siga respondiendo entre uno y otro
+    private void prebuildNextPanel() {
+        GameState state = prebuildQueue.poll();
+        if (state == null) {
+            return;
+        }
+        ensurePanel(state);
+        SwingUtilities.invokeLater(this::prebuildNextPanel);
+    }
+
+    /**
+     * Crea el panel de un estado si todavía no existe y lo añade al CardLayout.
+     * @param state El estado cuyo panel se necesita.
+     */
+    private void ensurePanel(GameState state) {
+        JPanel created = null;
+        switch (state) {
+            case SPLASH:
+                if (splashPanel == null) {
+                    created = splashPanel = new SplashPanel(this);
+                }
+                break;
+            case MENU:
+                if (mainMenuPanel == null) {
+                    created = mainMenuPanel = new MainMenuPanel(this);
+                }
+                break;
+            case LEVEL_SELECT:
+                if (levelSelectPanel == null) {
+                    created = levelSelectPanel = new LevelSelectPanel(this);
+                }
+                break;
+            case CUSTOMIZE:
+                if (customizePanel == null) {
+                    created = customizePanel = new CustomizePanel(this);
+                }
+                break;
+            case PLAYING:
+                if (gamePanel == null) {
+                    created = gamePanel = new GamePanel(this);
+                }
+                break;
+            case VICTORY:
+                if (victoryPanel == null) {
+                    created = victoryPanel = new VictoryPanel(this);
+                }
+                break;
+            case DEFEAT:
+                if (defeatPanel == null) {
+                    created = defeatPanel = new DefeatPanel(this);
+                }
+                break;
+        }
+        if (created != null) {
+            mainPanel.add(created, state.name());
+            LOG.debug("Panel {} construido", state);
+        }
     }
 
     /**
@@ -70,8 +139,9 @@ public class GameFrame extends JFrame {
      * @param newState El nuevo estado del juego al que cambiar.
      */
     public void setGameState(GameState newState) {
-        System.out.println("GameFrame: Cambiando estado a: " + newState.name());
+        LOG.debug("Cambiando estado a: {}", newState);
         this.currentGameState = newState;
+        ensurePanel(newState);
 
         removeKeyListener(gamePanel);
 
@@ -84,19 +154,22 @@ public class GameFrame extends JFrame {
 
             SwingUtilities.invokeLater(() -> {
                 gamePanel.requestFocusInWindow();
-                System.out.println("GameFrame: requestFocusInWindow() invocado para GamePanel. GamePanel is focus owner: " + gamePanel.isFocusOwner());
-                System.out.println("GameFrame: Current focus owner is: " + KeyboardFocusManager.getCurrentKeyboardFocusManager().getFocusOwner());
+                if (GameLogger.DEBUG) {
+                    LOG.debug("requestFocusInWindow() invocado para GamePanel. GamePanel is focus owner: {}. Current focus owner is: {}",
+                            gamePanel.isFocusOwner(),
+                            String.valueOf(KeyboardFocusManager.getCurrentKeyboardFocusManager().getFocusOwner()));
+                }
             });
-        } else {
+        } else if (gamePanel != null) {
             gamePanel.stopGame();
         }
 
         if (newState == GameState.LEVEL_SELECT) {
             levelSelectPanel.resetSelection();
         } else if (newState == GameState.VICTORY) {
-            victoryPanel.setFinalScore(gamePanel.getScore());
+            victoryPanel.setFinalScore(getGamePanel().getScore());
         } else if (newState == GameState.DEFEAT) { // ¡NUEVO! Pasa el puntaje a DefeatPanel
-            defeatPanel.setFinalScore(gamePanel.getScore());
+            defeatPanel.setFinalScore(getGamePanel().getScore());
         }
     }
 
@@ -105,15 +178,17 @@ public class GameFrame extends JFrame {
     }
 
     public Color getPlayerCarColor() {
-        return customizePanel.getSelectedColor();
+        // Si aún no se abrió la pantalla de personalización, el coche tiene el color por defecto
+        return customizePanel != null ? customizePanel.getSelectedColor() : Palette.DEFAULT_PLAYER_CAR_COLOR;
     }
 
     public void restartGame(int level) {
-        gamePanel.resetGame(level);
+        getGamePanel().resetGame(level);
         setGameState(GameState.PLAYING);
     }
 
     public GamePanel getGamePanel() {
+        ensurePanel(GameState.PLAYING);
         return gamePanel;
     }
 }
\ No newline at end of file
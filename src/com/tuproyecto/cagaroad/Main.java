@@ -1,10 +1,17 @@
 // com.tuproyecto.cagaroad.Main.java
 package com.tuproyecto.cagaroad;
 
+import com.tuproyecto.cagaroad.perf.StartupTimeline;
+import com.tuproyecto.cagaroad.utils.AssetManager;
+import com.tuproyecto.cagaroad.utils.GameConstants;
+
 import javax.swing.SwingUtilities;
 
 public class Main {
     public static void main(String[] args) {
+        StartupTimeline.start();
+        // Las imágenes se decodifican en segundo plano mientras se construye la ventana
+        AssetManager.preload(GameConstants.ASSET_MANIFEST);
         SwingUtilities.invokeLater(() -> {
             GameFrame gameFrame = new GameFrame();
             gameFrame.setVisible(true); // Hace visible la ventana
@@ -0,0 +1,439 @@
+package com.tuproyecto.cagaroad.analysis;
+
+import com.tuproyecto.cagaroad.simulation.CollisionSystem;
+import com.tuproyecto.cagaroad.simulation.GameRandom;
+import com.tuproyecto.cagaroad.simulation.ScrollMotion;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import com.tuproyecto.cagaroad.simulation.Simulation;
+import com.tuproyecto.cagaroad.simulation.WaveGenerator;
+import com.tuproyecto.cagaroad.simulation.WaveSource;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Analizador fuera de línea de oleadas imposibles.
+ * WaveGenerator garantiza carriles libres dentro de cada oleada, pero no que el jugador pueda llegar
+ * a ellos desde el hueco de la oleada anterior. Este analizador genera, en paralelo, las oleadas de
+ * millones de semillas (las mismas que tendría una partida con esa semilla) y calcula para cada una
+ * la primera oleada que ningún movimiento del jugador puede esquivar; con eso informa, para cada
+ * longitud de SimConstants.LEVEL_LENGTHS, la proporción de secuencias imposibles.
+ *
+ * Modelo: el jugador se mueve de lado a una velocidad fija (px por tick). Mientras una oleada se
+ * cruza verticalmente con él, tiene que estar en la mitad de la carretera que corresponde a un
+ * carril libre (no puede colarse entre dos coches de carriles vecinos) y sin que su hitbox toque
+ * a ningún obstáculo; entre oleadas puede moverse libremente. El conjunto de posiciones X
+ * alcanzables se guarda como unión de intervalos, así que cada oleada cuesta O(carriles). Los pasos
+ * de cada cruce y de cada hueco salen de la aceleración del nivel, igual que en la Simulation.
+ * Además de semillas, acepta una {@link WaveSource} (por ejemplo la pista fija de un nivel), con
+ * la separación propia de cada oleada.
+ *
+ * Uso: java -cp cagaroad.jar com.tuproyecto.cagaroad.analysis.SolvabilityAnalyzer
+ *          [secuencias] [semillaInicial] [tasaMáxima]
+ * Si se da tasaMáxima y algún nivel la supera, termina con código 1 (para usarlo como comprobación
+ * nocturna). La comprobación y el LevelBaker usan el mismo modelo, el del constructor sin argumentos
+ * (velocidad lateral PLAYER_SPEED). Con la aceleración los huecos entre oleadas se acortan, así que
+ * este modelo es el que limita SimConstants.LEVEL_MAX_SPEEDS. El paralelismo se ajusta con
+ * -Djava.util.concurrent.ForkJoinPool.common.parallelism=N.
+ */
+public class SolvabilityAnalyzer {
+
+    private static final int DEFAULT_SEQUENCES = 1_000_000;
+    private static final int SEQUENCES_PER_TASK = 4096;
+
+    // Modo Infinito: se analizan las oleadas de los primeros 5 minutos
+    private static final int INFINITE_HORIZON_TICKS = 5 * 60 * SimConstants.TICKS_PER_SECOND;
+
+    // Tiempos de cada oleada en cada nivel, con la aceleración del nivel (ver buildTimings):
+    // FREE_TICKS[nivel][w]: pasos de movimiento libre antes de que la oleada w empiece a cruzarse con el
+    // jugador; PASSAGE_TICKS[nivel][w]: cuántos pasos dura ese cruce. Su largo es la cantidad de
+    // oleadas que llegan al jugador antes de terminar el nivel.
+    private static final int[][] FREE_TICKS = new int[SimConstants.LEVEL_LENGTHS.length][];
+    private static final int[][] PASSAGE_TICKS = new int[SimConstants.LEVEL_LENGTHS.length][];
+
+    static {
+        for (int level = 0; level < FREE_TICKS.length; level++) {
+            int[][] timings = buildTimings(level, SimConstants.LEVEL_LENGTHS[level],
+                    wave -> (wave + 1) * (long) SimConstants.WAVE_SPACING);
+            FREE_TICKS[level] = timings[0];
+            PASSAGE_TICKS[level] = timings[1];
+        }
+    }
+
+    private static final int MIN_X = Simulation.laneToX(0);
+    private static final int MAX_X = Simulation.laneToX(SimConstants.NUM_LANES - 1);
+    private static final int MAX_INTERVALS = SimConstants.NUM_LANES + 1;
+
+    private final int lateralSpeed;
+
+    /**
+     * Analizador con el modelo de la comprobación nocturna y del LevelBaker: velocidad lateral PLAYER_SPEED.
+     */
+    public SolvabilityAnalyzer() {
+        this(SimConstants.PLAYER_SPEED);
+    }
+
+    /**
+     * Constructor del SolvabilityAnalyzer.
+     * @param lateralSpeed Cuántos px por tick puede moverse el jugador de lado.
+     */
+    public SolvabilityAnalyzer(int lateralSpeed) {
+        if (lateralSpeed <= 0) {
+            throw new IllegalArgumentException("lateralSpeed debe ser positiva");
+        }
+        this.lateralSpeed = lateralSpeed;
+    }
+
+    // Recorre el nivel con su ScrollMotion, igual que la Simulation: la oleada w aparece en el paso en
+    // que la distancia recorrida D llega a spawnDistance(w) (Long.MAX_VALUE si no hay oleada w), y desde
+    // entonces su Y es -CAR_HEIGHT + D - spawnDistance(w). Con la prueba continua, el paso t cuenta como
+    // cruce si la oleada termina por debajo de PLAYER_Y - HITBOX_HEIGHT y empezó por encima de
+    // PLAYER_Y + HITBOX_HEIGHT. Devuelve {FREE_TICKS, PASSAGE_TICKS} de ese nivel.
+    private static int[][] buildTimings(int level, int length, LongUnaryOperator spawnDistance) {
+        long reachStart = Simulation.PLAYER_Y - CollisionSystem.HITBOX_HEIGHT + SimConstants.CAR_HEIGHT;
+        long reachEnd = Simulation.PLAYER_Y + CollisionSystem.HITBOX_HEIGHT + SimConstants.CAR_HEIGHT;
+
+        ScrollMotion motion = new ScrollMotion();
+        motion.reset(level);
+        int[] start = new int[16];
+        int[] end = new int[16];
+        int started = 0;
+        int ended = 0;
+        long distance = 0;
+        for (int tick = 1; ; tick++) {
+            long previous = distance;
+            distance += motion.advance();
+            while (ended < started && previous - reachEnd >= spawnDistance.applyAsLong(ended)) {
+                end[ended++] = tick - 1;
+            }
+            while (distance - reachStart > spawnDistance.applyAsLong(started)) {
+                if (started == start.length) {
+                    start = Arrays.copyOf(start, started * 2);
+                    end = Arrays.copyOf(end, started * 2);
+                }
+                start[started++] = tick;
+            }
+            // El nivel termina en el paso en que se llega a su longitud (las colisiones de ese paso cuentan)
+            boolean finished = length == Integer.MAX_VALUE ? tick >= INFINITE_HORIZON_TICKS : distance >= length;
+            if (finished) {
+                while (ended < started) {
+                    end[ended++] = tick; // Cruces que el final del nivel deja a medias
+                }
+                break;
+            }
+        }
+
+        int[] free = new int[started];
+        int[] passage = new int[started];
+        for (int w = 0; w < started; w++) {
+            free[w] = Math.max(0, w == 0 ? start[0] : start[w] - end[w - 1] - 1);
+            passage[w] = end[w] - start[w] + 1;
+        }
+        return new int[][] {free, passage};
+    }
+
+    // La distancia recorrida en el paso en que termina el nivel (o el horizonte del Modo Infinito)
+    private static long finishDistance(int level, int length) {
+        ScrollMotion motion = new ScrollMotion();
+        motion.reset(level);
+        long distance = 0;
+        for (int tick = 1; ; tick++) {
+            distance += motion.advance();
+            if (length == Integer.MAX_VALUE ? tick >= INFINITE_HORIZON_TICKS : distance >= length) {
+                return distance;
+            }
+        }
+    }
+
+    /**
+     * Analiza un rango de semillas en paralelo sobre el ForkJoinPool común.
+     * @param firstSeed La primera semilla.
+     * @param sequences Cuántas semillas consecutivas se analizan.
+     * @return Cuántas secuencias son imposibles en cada nivel (mismo índice que LEVEL_LENGTHS).
+     */
+    public long[] analyze(long firstSeed, int sequences) {
+        int tasks = ceilDiv(sequences, SEQUENCES_PER_TASK);
+        return IntStream.range(0, tasks).parallel()
+                .mapToObj(task -> {
+                    long from = firstSeed + (long) task * SEQUENCES_PER_TASK;
+                    int count = Math.min(SEQUENCES_PER_TASK, sequences - task * SEQUENCES_PER_TASK);
+                    return analyzeRange(from, count);
+                })
+                .reduce(new long[FREE_TICKS.length], SolvabilityAnalyzer::sum);
+    }
+
+    // Trabajo de una tarea: sus propios objetos, sin nada compartido entre hilos
+    private long[] analyzeRange(long firstSeed, int count) {
+        long[] impossible = new long[FREE_TICKS.length];
+        Reachability reachability = new Reachability(lateralSpeed);
+        WaveGenerator generator = new WaveGenerator();
+        GameRandom random = new GameRandom(0);
+        // Cada nivel tiene su aceleración (y quizá sus pesos de oleada), así que se analiza por separado
+        for (int level = 0; level < impossible.length; level++) {
+            generator.setLevel(level);
+            for (int i = 0; i < count; i++) {
+                random.setSeed(firstSeed + i);
+                if (reachability.firstImpossibleWave(generator, random, level) != Integer.MAX_VALUE) {
+                    impossible[level]++;
+                }
+            }
+        }
+        return impossible;
+    }
+
+    /**
+     * Comprueba una sola semilla (lo usa el LevelBaker para validar las pistas que genera).
+     * @param level El nivel, por sus pesos de oleada.
+     * @param seed La semilla de la secuencia.
+     * @return true si todas las oleadas que llegan al jugador antes de terminar el nivel se pueden esquivar.
+     */
+    public boolean isSolvable(int level, long seed) {
+        Reachability reachability = new Reachability(lateralSpeed);
+        WaveGenerator generator = new WaveGenerator();
+        generator.setLevel(level);
+        return reachability.firstImpossibleWave(generator, new GameRandom(seed), level) == Integer.MAX_VALUE;
+    }
+
+    /**
+     * Comprueba las oleadas de una fuente fija, por ejemplo la pista de un nivel, con la separación
+     * y la longitud de nivel que da la propia fuente. La fuente se reinicia antes y después de leerla.
+     * @param level El nivel, por su aceleración (y por su longitud si la fuente no fija una).
+     * @param source La fuente de oleadas.
+     * @return true si todas las oleadas que llegan al jugador antes de terminar el nivel se pueden esquivar.
+     */
+    public boolean isSolvable(int level, WaveSource source) {
+        int length = source.getLevelLength() > 0 ? source.getLevelLength() : SimConstants.LEVEL_LENGTHS[level];
+        long finish = finishDistance(level, length);
+
+        // Solo importan las oleadas que aparecen antes de que termine el nivel
+        source.reset(0);
+        int[] masks = new int[16];
+        long[] spawn = new long[16];
+        int waves = 0;
+        long total = 0;
+        while (source.next()) {
+            total += source.getSpacing();
+            if (total >= finish) {
+                break;
+            }
+            if (waves == masks.length) {
+                masks = Arrays.copyOf(masks, waves * 2);
+                spawn = Arrays.copyOf(spawn, waves * 2);
+            }
+            int mask = 0;
+            for (int i = 0; i < source.getCount(); i++) {
+                mask |= 1 << source.getLane(i);
+            }
+            masks[waves] = mask;
+            spawn[waves] = total;
+            waves++;
+        }
+        source.reset(0); // Y la pista, si es un archivo, se cierra
+
+        int count = waves;
+        long[] spawnDistances = spawn;
+        int[][] timings = buildTimings(level, length, wave -> wave < count ? spawnDistances[(int) wave] : Long.MAX_VALUE);
+        Reachability reachability = new Reachability(lateralSpeed);
+        reachability.start();
+        for (int wave = 0; wave < timings[0].length; wave++) {
+            if (!reachability.wave(masks[wave], timings[0][wave], timings[1][wave])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return Cuántas oleadas llegan al jugador en cada nivel.
+     */
+    public int getWavesForLevel(int level) {
+        return FREE_TICKS[level].length;
+    }
+
+    /**
+     * Posiciones X alcanzables por el jugador, como unión ordenada de intervalos cerrados.
+     */
+    static final class Reachability {
+        private final int lateralSpeed;
+        private int[] lo = new int[MAX_INTERVALS];
+        private int[] hi = new int[MAX_INTERVALS];
+        private int size;
+        private int[] nextLo = new int[MAX_INTERVALS];
+        private int[] nextHi = new int[MAX_INTERVALS];
+        private final int[] freeLo = new int[MAX_INTERVALS];
+        private final int[] freeHi = new int[MAX_INTERVALS];
+        private int freeSize;
+
+        Reachability(int lateralSpeed) {
+            this.lateralSpeed = lateralSpeed;
+        }
+
+        /**
+         * @param level El nivel, por los tiempos de sus oleadas.
+         * @return El índice de la primera oleada imposible de esquivar, o Integer.MAX_VALUE si
+         *         todas las oleadas del nivel tienen solución.
+         */
+        int firstImpossibleWave(WaveGenerator generator, GameRandom random, int level) {
+            int[] freeTicks = FREE_TICKS[level];
+            int[] passageTicks = PASSAGE_TICKS[level];
+            start();
+            for (int wave = 0; wave < freeTicks.length; wave++) {
+                generator.generate(random);
+                if (!wave(generator.getBlockedMask(), freeTicks[wave], passageTicks[wave])) {
+                    return wave;
+                }
+            }
+            return Integer.MAX_VALUE;
+        }
+
+        // El jugador sale del carril central
+        void start() {
+            size = 1;
+            lo[0] = Simulation.laneToX(SimConstants.NUM_LANES / 2);
+            hi[0] = lo[0];
+        }
+
+        // Movimiento libre hasta la oleada y después su cruce. Devuelve false si no se puede esquivar.
+        boolean wave(int blockedMask, int freeTicks, int passageTicks) {
+            dilate((long) freeTicks * lateralSpeed);
+            buildFreeRegion(blockedMask);
+            return enterPassage(passageTicks);
+        }
+
+        // Movimiento libre entre oleadas: cada intervalo se estira distance px hacia cada lado
+        private void dilate(long distance) {
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                int newLo = (int) Math.max(MIN_X, lo[i] - distance);
+                int newHi = (int) Math.min(MAX_X, hi[i] + distance);
+                if (n > 0 && newLo <= nextHi[n - 1]) {
+                    nextHi[n - 1] = Math.max(nextHi[n - 1], newHi);
+                } else {
+                    nextLo[n] = newLo;
+                    nextHi[n] = newHi;
+                    n++;
+                }
+            }
+            swap(n);
+        }
+
+        // Zonas permitidas durante el cruce: la franja de cada carril libre (hasta la mitad del
+        // camino a sus vecinos), recortada para que la hitbox no toque a los obstáculos vecinos
+        private void buildFreeRegion(int blockedMask) {
+            freeSize = 0;
+            int halfLane = SimConstants.LANE_WIDTH / 2;
+            for (int lane = 0; lane < SimConstants.NUM_LANES; lane++) {
+                if ((blockedMask & (1 << lane)) != 0) {
+                    continue;
+                }
+                int center = Simulation.laneToX(lane);
+                int start = Math.max(MIN_X, center - halfLane);
+                int end = Math.min(MAX_X, center + halfLane);
+                if (lane > 0 && (blockedMask & (1 << (lane - 1))) != 0) {
+                    start = Math.max(start, Simulation.laneToX(lane - 1) + CollisionSystem.HITBOX_WIDTH);
+                }
+                if (lane < SimConstants.NUM_LANES - 1 && (blockedMask & (1 << (lane + 1))) != 0) {
+                    end = Math.min(end, Simulation.laneToX(lane + 1) - CollisionSystem.HITBOX_WIDTH);
+                }
+                if (freeSize > 0 && start <= freeHi[freeSize - 1] + 1) {
+                    freeHi[freeSize - 1] = end; // Carriles libres vecinos forman un solo tramo
+                } else {
+                    freeLo[freeSize] = start;
+                    freeHi[freeSize] = end;
+                    freeSize++;
+                }
+            }
+        }
+
+        // Durante el cruce: lo alcanzable se limita a la zona libre y, dentro de cada tramo libre,
+        // el jugador puede seguir moviéndose. Devuelve false si no queda ninguna posición válida.
+        private boolean enterPassage(int ticks) {
+            long distance = (long) ticks * lateralSpeed;
+            int n = 0;
+            for (int f = 0; f < freeSize; f++) {
+                // Parte alcanzable de este tramo libre
+                int reachLo = Integer.MAX_VALUE;
+                int reachHi = Integer.MIN_VALUE;
+                for (int i = 0; i < size; i++) {
+                    int a = Math.max(lo[i], freeLo[f]);
+                    int b = Math.min(hi[i], freeHi[f]);
+                    if (a <= b) {
+                        reachLo = Math.min(reachLo, a);
+                        reachHi = Math.max(reachHi, b);
+                    }
+                }
+                if (reachLo > reachHi) {
+                    continue;
+                }
+                nextLo[n] = (int) Math.max(freeLo[f], reachLo - distance);
+                nextHi[n] = (int) Math.min(freeHi[f], reachHi + distance);
+                n++;
+            }
+            swap(n);
+            return n > 0;
+        }
+
+        private void swap(int newSize) {
+            int[] t = lo;
+            lo = nextLo;
+            nextLo = t;
+            t = hi;
+            hi = nextHi;
+            nextHi = t;
+            size = newSize;
+        }
+    }
+
+    private static long[] sum(long[] a, long[] b) {
+        long[] total = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            total[i] = a[i] + b[i];
+        }
+        return total;
+    }
+
+    private static int ceilDiv(int a, int b) {
+        return (a + b - 1) / b;
+    }
+
+    public static void main(String[] args) {
+        int sequences = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SEQUENCES;
+        long firstSeed = args.length > 1 ? Long.parseLong(args[1]) : 0L;
+        double maxRate = args.length > 2 ? Double.parseDouble(args[2]) : Double.NaN;
+
+        System.out.printf("Secuencias: %d desde la semilla %d, hilos: %d%n",
+                sequences, firstSeed, ForkJoinPool.getCommonPoolParallelism());
+        for (int level = 0; level < FREE_TICKS.length; level++) {
+            int last = FREE_TICKS[level].length - 1;
+            if (last > 0) {
+                System.out.printf("%-14s cruce de una oleada: %d -> %d ticks, hueco entre oleadas: %d -> %d ticks%n",
+                        level == 0 ? "Modo Infinito*" : "Nivel " + level, PASSAGE_TICKS[level][1], PASSAGE_TICKS[level][last],
+                        FREE_TICKS[level][1], FREE_TICKS[level][last]);
+            }
+        }
+
+        boolean failed = false;
+        SolvabilityAnalyzer analyzer = new SolvabilityAnalyzer();
+        long start = System.nanoTime();
+        long[] impossible = analyzer.analyze(firstSeed, sequences);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%nVelocidad lateral: PLAYER_SPEED (%d px/tick)  (%.2f s, %.0f secuencias/s)%n",
+                SimConstants.PLAYER_SPEED, seconds, sequences / seconds);
+        for (int level = 0; level < impossible.length; level++) {
+            double rate = (double) impossible[level] / sequences;
+            System.out.printf("  %-14s oleadas=%4d  imposibles=%9d  tasa=%.6f%n",
+                    level == 0 ? "Modo Infinito*" : "Nivel " + level, analyzer.getWavesForLevel(level), impossible[level], rate);
+            if (!Double.isNaN(maxRate) && rate > maxRate) {
+                failed = true;
+            }
+        }
+        System.out.printf("%n* Modo Infinito: primeros %d s de juego%n", INFINITE_HORIZON_TICKS / SimConstants.TICKS_PER_SECOND);
+        if (failed) {
+            System.out.printf("La tasa de secuencias imposibles supera el máximo %.6f%n", maxRate);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.tuproyecto.cagaroad.bot;
+
+import com.tuproyecto.cagaroad.simulation.CollisionSystem;
+import com.tuproyecto.cagaroad.simulation.PlayerInput;
+import com.tuproyecto.cagaroad.simulation.ScrollMotion;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import com.tuproyecto.cagaroad.simulation.Simulation;
+
+/**
+ * Piloto automático que juega con las reglas reales de {@link Simulation}, sin pantalla.
+ * En cada paso proyecta los obstáculos visibles hacia adelante (todos bajan a la misma velocidad,
+ * que el bot copia de la simulación con su aceleración) y marca, para cada uno de los próximos
+ * lookaheadTicks, qué carriles estarán ocupados a la altura del jugador. Sobre esa rejilla tiempo x
+ * carril calcula de atrás hacia adelante desde qué carriles se puede sobrevivir hasta el final del
+ * horizonte (un cambio de carril por paso) y elige quedarse o moverse hacia el carril seguro más
+ * despejado. Cuesta O(obstáculos * log(horizonte) + horizonte) con máscaras de bits, sin crear objetos.
+ */
+public class AutopilotBot {
+
+    /** Horizonte por defecto: lo que tarda una oleada recién aparecida en llegar al jugador a la velocidad base. */
+    public static final int DEFAULT_LOOKAHEAD_TICKS =
+            (Simulation.PLAYER_Y - CollisionSystem.HITBOX_HEIGHT + SimConstants.CAR_HEIGHT) / SimConstants.GAME_SPEED_BASE;
+
+    private static final int ALL_LANES = (1 << SimConstants.NUM_LANES) - 1;
+
+    private final int lookaheadTicks;
+    private final int[] blocked; // blocked[t]: carriles ocupados a la altura del jugador dentro de t pasos
+    private final int[] safe;    // safe[t]: carriles desde los que se puede sobrevivir de t hasta el horizonte
+    private final int[] travel;  // travel[t]: px que bajan los obstáculos en los próximos t pasos
+    private final ScrollMotion motion = new ScrollMotion();
+
+    public AutopilotBot() {
+        this(DEFAULT_LOOKAHEAD_TICKS);
+    }
+
+    /**
+     * Constructor del AutopilotBot.
+     * @param lookaheadTicks Cuántos pasos hacia adelante se analizan.
+     */
+    public AutopilotBot(int lookaheadTicks) {
+        if (lookaheadTicks <= 0) {
+            throw new IllegalArgumentException("lookaheadTicks debe ser positivo");
+        }
+        this.lookaheadTicks = lookaheadTicks;
+        this.blocked = new int[lookaheadTicks + 1];
+        this.safe = new int[lookaheadTicks + 2];
+        this.travel = new int[lookaheadTicks + 1];
+    }
+
+    /**
+     * Decide la entrada del próximo paso.
+     * @param simulation La simulación, antes de llamar a step().
+     * @return LEFT, RIGHT o NONE.
+     */
+    public PlayerInput decide(Simulation simulation) {
+        projectObstacles(simulation);
+
+        // De atrás hacia adelante: un carril es seguro en t si está libre en t y desde él se
+        // llega (quedándose o moviéndose uno) a un carril seguro en t + 1
+        safe[lookaheadTicks + 1] = ALL_LANES;
+        for (int t = lookaheadTicks; t >= 1; t--) {
+            safe[t] = ~blocked[t] & spread(safe[t + 1]) & ALL_LANES;
+        }
+
+        int lane = simulation.getPlayerLane();
+        int candidates = safe[1] & spread(1 << lane);
+        if (candidates == 0) {
+            return PlayerInput.NONE; // No hay salida dentro del horizonte
+        }
+
+        // Entre los carriles seguros alcanzables, el que más tarda en tener un obstáculo;
+        // a igualdad se prefiere no moverse
+        int best = -1;
+        int bestClearance = -1;
+        for (int offset = 0; offset <= 2; offset++) {
+            int candidate = offset == 0 ? lane : offset == 1 ? lane - 1 : lane + 1;
+            if (candidate < 0 || candidate >= SimConstants.NUM_LANES || (candidates & (1 << candidate)) == 0) {
+                continue;
+            }
+            int clearance = clearance(candidate);
+            if (clearance > bestClearance) {
+                best = candidate;
+                bestClearance = clearance;
+            }
+        }
+        if ((candidates & (1 << lane)) != 0 && clearance(lane) == bestClearance) {
+            best = lane;
+        }
+        return best < lane ? PlayerInput.LEFT : best > lane ? PlayerInput.RIGHT : PlayerInput.NONE;
+    }
+
+    // Marca en blocked[] los pasos en que cada obstáculo se cruza con la fila del jugador, con la
+    // misma prueba continua que la simulación: cuenta todo el tramo que baja en cada paso
+    private void projectObstacles(Simulation simulation) {
+        // Los mismos px por paso que va a recorrer la simulación, con su aceleración y su fracción pendiente
+        motion.copyFrom(simulation.getMotion());
+        blocked[0] = 0;
+        travel[0] = 0;
+        for (int t = 1; t <= lookaheadTicks; t++) {
+            blocked[t] = 0;
+            travel[t] = travel[t - 1] + motion.advance();
+        }
+        int top = Simulation.PLAYER_Y - CollisionSystem.HITBOX_HEIGHT; // Se cruzan si top < y < bottom
+        int bottom = Simulation.PLAYER_Y + CollisionSystem.HITBOX_HEIGHT;
+        for (int i = 0; i < simulation.getObstacleCount(); i++) {
+            int y = simulation.getObstacleY(i);
+            if (y >= bottom) {
+                continue; // Ya pasó al jugador
+            }
+            // Primer y último paso t (>= 1) en que el tramo de y + travel[t - 1] a y + travel[t]
+            // toca la franja: y + travel[t] > top e y + travel[t - 1] < bottom
+            int first = Math.max(1, firstTravelAbove(top - y));
+            int last = Math.min(lookaheadTicks, firstTravelAbove(bottom - 1 - y));
+            int bit = 1 << simulation.getObstacleLane(i);
+            for (int t = first; t <= last; t++) {
+                blocked[t] |= bit;
+            }
+        }
+    }
+
+    // El menor t con travel[t] > distance (lookaheadTicks + 1 si no hay), por búsqueda binaria
+    private int firstTravelAbove(int distance) {
+        int lo = 0;
+        int hi = lookaheadTicks + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (travel[mid] > distance) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    // Pasos hasta que el carril queda ocupado (lookaheadTicks + 1 si está libre en todo el horizonte)
+    private int clearance(int lane) {
+        int bit = 1 << lane;
+        for (int t = 1; t <= lookaheadTicks; t++) {
+            if ((blocked[t] & bit) != 0) {
+                return t;
+            }
+        }
+        return lookaheadTicks + 1;
+    }
+
+    private static int spread(int lanes) {
+        return (lanes | (lanes << 1) | (lanes >>> 1)) & ALL_LANES;
+    }
+
+    public int getLookaheadTicks() {
+        return lookaheadTicks;
+    }
+}
@@ -0,0 +1,172 @@
+package com.tuproyecto.cagaroad.bot;
+
+import com.tuproyecto.cagaroad.level.LevelLibrary;
+import com.tuproyecto.cagaroad.simulation.PlayerInput;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import com.tuproyecto.cagaroad.simulation.Simulation;
+import com.tuproyecto.cagaroad.simulation.StepResult;
+import com.tuproyecto.cagaroad.simulation.WaveSource;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Hace jugar al {@link AutopilotBot} N partidas por nivel, en paralelo en todos los núcleos, y
+ * muestra la distribución de la distancia recorrida y de la puntuación. Sirve para balancear
+ * niveles y como prueba de regresión de las reglas: con las mismas semillas el resultado es
+ * siempre el mismo. Desde la línea de órdenes juega las mismas oleadas que el juego: las pistas
+ * de los Niveles 1 a 3 (o las aleatorias con -Dcagaroad.levels=random).
+ *
+ * Uso: java -cp cagaroad.jar com.tuproyecto.cagaroad.bot.BotBatchRunner [partidasPorNivel] [semillaInicial] [ticksMáximos] [horizonte]
+ * ticksMáximos limita las partidas del Modo Infinito (por defecto 5 minutos de juego). Con un
+ * horizonte corto el bot "ve" menos adelante y se comporta más como un jugador humano.
+ */
+public class BotBatchRunner {
+
+    private static final int DEFAULT_GAMES_PER_LEVEL = 1000;
+    private static final int DEFAULT_MAX_TICKS = 5 * 60 * SimConstants.TICKS_PER_SECOND;
+    private static final int GAMES_PER_TASK = 16;
+
+    /**
+     * Resultados de un lote de partidas de un nivel.
+     */
+    public static final class LevelReport {
+        final int level;
+        final int[] distances;
+        final int[] scores;
+        final long[] ticks;
+        final StepResult[] results;
+        long decisionNanos;
+
+        LevelReport(int level, int games) {
+            this.level = level;
+            this.distances = new int[games];
+            this.scores = new int[games];
+            this.ticks = new long[games];
+            this.results = new StepResult[games];
+        }
+
+        int count(StepResult result) {
+            int n = 0;
+            for (StepResult r : results) {
+                if (r == result) {
+                    n++;
+                }
+            }
+            return n;
+        }
+
+        long totalTicks() {
+            long total = 0;
+            for (long t : ticks) {
+                total += t;
+            }
+            return total;
+        }
+    }
+
+    private final int maxTicks;
+    private final int lookaheadTicks;
+    private final Supplier<WaveSource.Provider> providers;
+
+    /**
+     * Constructor del BotBatchRunner, con oleadas aleatorias en todos los niveles.
+     * @param maxTicks Límite de pasos por partida (para el Modo Infinito).
+     * @param lookaheadTicks Horizonte de búsqueda del bot.
+     */
+    public BotBatchRunner(int maxTicks, int lookaheadTicks) {
+        this(maxTicks, lookaheadTicks, null);
+    }
+
+    /**
+     * Constructor del BotBatchRunner.
+     * @param maxTicks Límite de pasos por partida (para el Modo Infinito).
+     * @param lookaheadTicks Horizonte de búsqueda del bot.
+     * @param providers Crea las fuentes de oleadas de cada simulación (por ejemplo LevelLibrary::new),
+     *                  una por tarea porque cada una pertenece a una sola Simulation; null para oleadas aleatorias.
+     */
+    public BotBatchRunner(int maxTicks, int lookaheadTicks, Supplier<WaveSource.Provider> providers) {
+        this.maxTicks = maxTicks;
+        this.lookaheadTicks = lookaheadTicks;
+        this.providers = providers;
+    }
+
+    /**
+     * Juega games partidas de un nivel con las semillas firstSeed, firstSeed + 1, ...
+     */
+    public LevelReport run(int level, int games, long firstSeed) {
+        LevelReport report = new LevelReport(level, games);
+        int tasks = (games + GAMES_PER_TASK - 1) / GAMES_PER_TASK;
+        report.decisionNanos = IntStream.range(0, tasks).parallel()
+                .mapToLong(task -> runRange(report, task * GAMES_PER_TASK,
+                        Math.min(games, (task + 1) * GAMES_PER_TASK), firstSeed))
+                .sum();
+        return report;
+    }
+
+    // Cada tarea usa su propia simulación y su propio bot; escribe solo en sus índices del informe
+    private long runRange(LevelReport report, int from, int to, long firstSeed) {
+        Simulation simulation = providers == null ? new Simulation(0) : new Simulation(0, providers.get());
+        AutopilotBot bot = new AutopilotBot(lookaheadTicks);
+        long decisionNanos = 0;
+        for (int game = from; game < to; game++) {
+            simulation.reset(report.level, firstSeed + game);
+            while (simulation.getResult() == StepResult.RUNNING && simulation.getTick() < maxTicks) {
+                long start = System.nanoTime();
+                PlayerInput input = bot.decide(simulation);
+                decisionNanos += System.nanoTime() - start;
+                simulation.step(input);
+            }
+            report.distances[game] = simulation.getCurrentProgress();
+            report.scores[game] = simulation.getScore();
+            report.ticks[game] = simulation.getTick();
+            report.results[game] = simulation.getResult();
+        }
+        return decisionNanos;
+    }
+
+    private static String distribution(int[] values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return String.format("min=%d p10=%d p50=%d p90=%d max=%d",
+                sorted[0], percentile(sorted, 10), percentile(sorted, 50), percentile(sorted, 90), sorted[sorted.length - 1]);
+    }
+
+    private static int percentile(int[] sorted, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES_PER_LEVEL;
+        long firstSeed = args.length > 1 ? Long.parseLong(args[1]) : 0L;
+        int maxTicks = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_MAX_TICKS;
+        int lookahead = args.length > 3 ? Integer.parseInt(args[3]) : AutopilotBot.DEFAULT_LOOKAHEAD_TICKS;
+
+        System.out.printf("Partidas por nivel: %d desde la semilla %d, horizonte: %d pasos, hilos: %d%n",
+                games, firstSeed, lookahead, ForkJoinPool.getCommonPoolParallelism());
+        // El Modo Infinito sin la cola pregenerada (son las mismas oleadas), para no dejar un hilo por tarea
+        BotBatchRunner runner = new BotBatchRunner(maxTicks, lookahead, () -> {
+            LevelLibrary library = new LevelLibrary();
+            return level -> level == 0 ? null : library.forLevel(level);
+        });
+        for (int level = 1; level <= SimConstants.LEVEL_LENGTHS.length; level++) {
+            int gameLevel = level % SimConstants.LEVEL_LENGTHS.length; // Niveles 1..3 y al final el Modo Infinito
+            long start = System.nanoTime();
+            LevelReport report = runner.run(gameLevel, games, firstSeed);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long ticks = report.totalTicks();
+
+            System.out.printf("%n%s: victorias=%d derrotas=%d sin terminar=%d%n",
+                    gameLevel == 0 ? "Modo Infinito" : "Nivel " + gameLevel,
+                    report.count(StepResult.VICTORY), report.count(StepResult.DEFEAT), report.count(StepResult.RUNNING));
+            System.out.println("  distancia  " + distribution(report.distances));
+            System.out.println("  puntuación " + distribution(report.scores));
+            System.out.printf("  %.2f s, %.0f pasos/s (%.0fx tiempo real), decisión media %.2f µs%n",
+                    seconds, ticks / seconds, ticks / seconds / SimConstants.TICKS_PER_SECOND,
+                    report.decisionNanos / 1e3 / Math.max(1, ticks));
+        }
+    }
+}
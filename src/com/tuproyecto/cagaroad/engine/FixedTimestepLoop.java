@@ -0,0 +1,103 @@
+package com.tuproyecto.cagaroad.engine;
+
+/**
+ * Acumulador de paso fijo para el bucle del juego.
+ * Convierte el tiempo real transcurrido (medido con System.nanoTime) en un número entero
+ * de pasos de simulación de duración fija, de modo que la velocidad del mundo no dependa
+ * de lo rápido que se dibuje ni de cuándo el EDT atienda el Timer.
+ * Si hay un tirón largo, solo se recuperan como máximo {@code maxStepsPerFrame} pasos;
+ * el resto se descarta y se contabiliza como pasos perdidos.
+ */
+public class FixedTimestepLoop {
+
+    private final long stepNanos;
+    private final int maxStepsPerFrame;
+
+    private long lastTime;
+    private long accumulator;
+    private boolean running = false;
+
+    // Estadísticas del bucle
+    private long totalSteps;
+    private long mergedSteps;  // Pasos extra ejecutados en el mismo fotograma (recuperación)
+    private long droppedSteps; // Pasos descartados por superar el límite de recuperación
+
+    /**
+     * Constructor del FixedTimestepLoop.
+     * @param stepNanos Duración de cada paso de simulación en nanosegundos.
+     * @param maxStepsPerFrame Máximo de pasos que se ejecutan en un solo fotograma.
+     */
+    public FixedTimestepLoop(long stepNanos, int maxStepsPerFrame) {
+        if (stepNanos <= 0 || maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("stepNanos y maxStepsPerFrame deben ser positivos");
+        }
+        this.stepNanos = stepNanos;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Reinicia el reloj del acumulador y las estadísticas.
+     * @param now El instante actual según System.nanoTime().
+     */
+    public void reset(long now) {
+        lastTime = now;
+        accumulator = 0;
+        totalSteps = 0;
+        mergedSteps = 0;
+        droppedSteps = 0;
+        running = true;
+    }
+
+    /**
+     * Detiene el acumulador. La próxima llamada a advance() lo reinicia sin recuperar el tiempo detenido.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Suma el tiempo transcurrido desde la última llamada y calcula cuántos pasos tocan ahora.
+     * @param now El instante actual según System.nanoTime().
+     * @return El número de pasos de simulación que deben ejecutarse (0..maxStepsPerFrame).
+     */
+    public int advance(long now) {
+        if (!running) {
+            reset(now);
+            return 0;
+        }
+
+        accumulator += now - lastTime;
+        lastTime = now;
+
+        long due = accumulator / stepNanos;
+        if (due > maxStepsPerFrame) {
+            long dropped = due - maxStepsPerFrame;
+            droppedSteps += dropped;
+            accumulator -= dropped * stepNanos;
+            due = maxStepsPerFrame;
+        }
+        accumulator -= due * stepNanos;
+
+        if (due > 1) {
+            mergedSteps += due - 1;
+        }
+        totalSteps += due;
+        return (int) due;
+    }
+
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    public long getTotalSteps() {
+        return totalSteps;
+    }
+
+    public long getMergedSteps() {
+        return mergedSteps;
+    }
+
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+}
@@ -0,0 +1,133 @@
+package com.tuproyecto.cagaroad.engine;
+
+import com.tuproyecto.cagaroad.rendering.CarSpriteCache;
+import com.tuproyecto.cagaroad.rendering.Palette;
+import com.tuproyecto.cagaroad.simulation.GameRandom;
+import com.tuproyecto.cagaroad.simulation.PlayerInput;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import com.tuproyecto.cagaroad.simulation.Simulation;
+import com.tuproyecto.cagaroad.simulation.StepResult;
+import com.tuproyecto.cagaroad.utils.AssetManager;
+import com.tuproyecto.cagaroad.utils.GameConstants;
+import com.tuproyecto.cagaroad.utils.GameLogger;
+
+import javax.swing.*;
+import java.awt.*;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Calentamiento del juego mientras se muestra el splash.
+ * En un hilo en segundo plano espera a que las imágenes del manifiesto estén decodificadas,
+ * dibuja los sprites de todos los colores de coche, prepara la textura de la carretera y ejecuta
+ * unas decenas de miles de pasos de simulación sin pantalla para que el JIT compile el paso de
+ * juego antes de la primera partida. El progreso y el final se notifican siempre en el EDT.
+ */
+public final class WarmUp {
+
+    private static final GameLogger LOG = GameLogger.get("WarmUp");
+
+    private static final int SIMULATION_CHUNKS = 10; // Partes del calentamiento del JIT (para la barra de progreso)
+
+    /**
+     * Recibe el avance del calentamiento, siempre en el EDT.
+     */
+    public interface Listener {
+        void onProgress(int done, int total, String step);
+        void onFinished();
+    }
+
+    private final GraphicsConfiguration configuration;
+    private final Runnable prepareOnEdt;
+    private final int totalSteps;
+    private int doneSteps;
+
+    /**
+     * Constructor del WarmUp.
+     * @param configuration La configuración gráfica de la ventana (para los sprites).
+     * @param prepareOnEdt Trabajo que debe hacerse en el EDT, como preparar la textura de la carretera.
+     */
+    public WarmUp(GraphicsConfiguration configuration, Runnable prepareOnEdt) {
+        this.configuration = configuration;
+        this.prepareOnEdt = prepareOnEdt;
+        this.totalSteps = GameConstants.ASSET_MANIFEST.length
+                + Palette.OBSTACLE_COLORS.length + Palette.PLAYER_CAR_COLORS.length
+                + 1 + SIMULATION_CHUNKS;
+    }
+
+    /**
+     * Lanza el calentamiento en un hilo demonio y vuelve enseguida.
+     * @param listener Quien recibe el progreso y el aviso de fin (en el EDT).
+     */
+    public void start(Listener listener) {
+        Thread thread = new Thread(() -> run(listener), "cagaroad-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.NORM_PRIORITY - 1); // Que el EDT siga pintando el splash con fluidez
+        thread.start();
+    }
+
+    private void run(Listener listener) {
+        long start = System.nanoTime();
+        try {
+            for (String fileName : GameConstants.ASSET_MANIFEST) {
+                step(listener, "Cargando imágenes");
+                try {
+                    AssetManager.load(fileName).join();
+                } catch (CompletionException e) {
+                    // El AssetManager ya avisó del fallo; quien use la imagen mostrará su marcador
+                }
+            }
+
+            for (Color color : Palette.OBSTACLE_COLORS) {
+                step(listener, "Dibujando coches");
+                CarSpriteCache.getSprite(configuration, color);
+            }
+            for (Color color : Palette.PLAYER_CAR_COLORS) {
+                step(listener, "Dibujando coches");
+                CarSpriteCache.getSprite(configuration, color);
+            }
+
+            step(listener, "Preparando la carretera");
+            SwingUtilities.invokeAndWait(prepareOnEdt);
+
+            warmUpSimulation(listener);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (InvocationTargetException e) {
+            // Un fallo aquí solo quita el calentamiento; el juego funciona igual
+            LOG.warn("Calentamiento incompleto", e.getCause() != null ? e.getCause() : e);
+        } catch (RuntimeException e) {
+            LOG.warn("Calentamiento incompleto", e);
+        }
+        LOG.debug("Calentamiento terminado en {} ms", (System.nanoTime() - start) / 1_000_000);
+        SwingUtilities.invokeLater(listener::onFinished);
+    }
+
+    // Partidas sin pantalla con entradas aleatorias; las oleadas, el pool y las colisiones
+    // se ejecutan igual que en el juego, así que el JIT compila el mismo código
+    private void warmUpSimulation(Listener listener) {
+        Simulation simulation = new Simulation(0);
+        GameRandom inputs = new GameRandom(0);
+        int level = 1;
+        int ticksPerChunk = GameConstants.WARMUP_SIMULATION_TICKS / SIMULATION_CHUNKS;
+        for (int chunk = 0; chunk < SIMULATION_CHUNKS; chunk++) {
+            step(listener, "Preparando el motor");
+            for (int i = 0; i < ticksPerChunk; i++) {
+                if (simulation.step(randomInput(inputs)) != StepResult.RUNNING) {
+                    level = (level + 1) % SimConstants.LEVEL_LENGTHS.length;
+                    simulation.reset(level, inputs.nextLong());
+                }
+            }
+        }
+    }
+
+    private static PlayerInput randomInput(GameRandom random) {
+        int roll = random.nextInt(8);
+        return roll == 0 ? PlayerInput.LEFT : roll == 1 ? PlayerInput.RIGHT : PlayerInput.NONE;
+    }
+
+    private void step(Listener listener, String name) {
+        int done = doneSteps++;
+        SwingUtilities.invokeLater(() -> listener.onProgress(done, totalSteps, name));
+    }
+}
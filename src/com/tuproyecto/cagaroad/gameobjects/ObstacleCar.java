@@ -1,6 +1,7 @@
 package com.tuproyecto.cagaroad.gameobjects;
 
-import com.tuproyecto.cagaroad.utils.GameConstants;
+import com.tuproyecto.cagaroad.rendering.CarSpriteCache;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
 
 import java.awt.*;
 
@@ -24,6 +25,20 @@ public class ObstacleCar {
         this.color = color;
     }
 
+    /**
+     * Reutiliza este obstáculo con otra posición y color, sin crear un objeto nuevo.
+     * @param x La nueva coordenada X.
+     * @param y La nueva coordenada Y.
+     * @param color El nuevo color.
+     * @return Este mismo obstáculo, para poder encadenar llamadas.
+     */
+    public ObstacleCar reset(int x, int y, Color color) {
+        this.x = x;
+        this.y = y;
+        this.color = color;
+        return this;
+    }
+
     /**
      * Mueve el obstáculo hacia abajo en la pantalla, simulando que el jugador avanza.
      * @param speed La velocidad a la que se mueve el obstáculo.
@@ -33,28 +48,11 @@ public class ObstacleCar {
     }
 
     /**
-     * Dibuja el coche obstáculo usando formas geométricas.
+     * Dibuja el coche obstáculo con el sprite en caché de su color.
      * @param g2d El objeto Graphics2D usado para dibujar.
      */
     public void draw(Graphics2D g2d) {
-        g2d.setColor(color);
-        g2d.fillRect(x, y, GameConstants.CAR_WIDTH, GameConstants.CAR_HEIGHT); // Cuerpo del coche
-
-        g2d.setColor(Color.BLACK);
-        g2d.setStroke(new BasicStroke(2));
-        g2d.drawRect(x, y, GameConstants.CAR_WIDTH, GameConstants.CAR_HEIGHT); // Borde del cuerpo
-
-        // Ventanas
-        g2d.setColor(new Color(135, 206, 235)); // Azul cielo para ventanas
-        g2d.fillRect(x + 5, y + 10, GameConstants.CAR_WIDTH - 10, GameConstants.CAR_HEIGHT / 4); // Ventana frontal
-        g2d.fillRect(x + 5, y + GameConstants.CAR_HEIGHT - GameConstants.CAR_HEIGHT / 4 - 10, GameConstants.CAR_WIDTH - 10, GameConstants.CAR_HEIGHT / 4); // Ventana trasera
-
-        // Ruedas
-        g2d.setColor(Color.BLACK);
-        g2d.fillRect(x - 5, y + 10, 10, 20); // Rueda delantera izquierda
-        g2d.fillRect(x + GameConstants.CAR_WIDTH - 5, y + 10, 10, 20); // Rueda delantera derecha
-        g2d.fillRect(x - 5, y + GameConstants.CAR_HEIGHT - 30, 10, 20); // Rueda trasera izquierda
-        g2d.fillRect(x + GameConstants.CAR_WIDTH - 5, y + GameConstants.CAR_HEIGHT - 30, 10, 20); // Rueda trasera derecha
+        CarSpriteCache.drawCar(g2d, color, x, y);
     }
 
     /**
@@ -63,13 +61,21 @@ public class ObstacleCar {
      * @return Un objeto Rectangle que define la caja delimitadora de la hitbox.
      */
     public Rectangle getBounds() {
-        int hitboxX = x + GameConstants.HITBOX_MARGIN;
-        int hitboxY = y + GameConstants.HITBOX_MARGIN;
-        int hitboxWidth = GameConstants.CAR_WIDTH - (2 * GameConstants.HITBOX_MARGIN);
-        int hitboxHeight = GameConstants.CAR_HEIGHT - (2 * GameConstants.HITBOX_MARGIN);
+        int hitboxX = x + SimConstants.HITBOX_MARGIN;
+        int hitboxY = y + SimConstants.HITBOX_MARGIN;
+        int hitboxWidth = SimConstants.CAR_WIDTH - (2 * SimConstants.HITBOX_MARGIN);
+        int hitboxHeight = SimConstants.CAR_HEIGHT - (2 * SimConstants.HITBOX_MARGIN);
         return new Rectangle(hitboxX, hitboxY, hitboxWidth, hitboxHeight);
     }
 
+    /**
+     * Obtiene la coordenada X actual del obstáculo.
+     * @return La coordenada X del obstáculo.
+     */
+    public int getX() {
+        return x;
+    }
+
     /**
      * Obtiene la coordenada Y actual del obstáculo.
      * Útil para saber cuándo el obstáculo ha salido de la pantalla.
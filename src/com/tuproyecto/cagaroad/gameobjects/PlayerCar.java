@@ -1,6 +1,8 @@
 package com.tuproyecto.cagaroad.gameobjects;
 
-import com.tuproyecto.cagaroad.utils.GameConstants;
+import com.tuproyecto.cagaroad.rendering.CarSpriteCache;
+import com.tuproyecto.cagaroad.simulation.CollisionSystem;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
 
 import java.awt.*;
 
@@ -27,48 +29,42 @@ public class PlayerCar {
      */
     public void reset(Color newColor) {
         this.color = newColor;
-        this.lane = GameConstants.NUM_LANES / 2;
-        this.x = (GameConstants.GAME_WIDTH / 6) + (lane * GameConstants.LANE_WIDTH) + (GameConstants.LANE_WIDTH / 2) - (GameConstants.CAR_WIDTH / 2);
-        this.y = GameConstants.GAME_HEIGHT - GameConstants.CAR_HEIGHT - 50;
+        this.lane = SimConstants.NUM_LANES / 2;
+        this.x = (SimConstants.GAME_WIDTH / 6) + (lane * SimConstants.LANE_WIDTH) + (SimConstants.LANE_WIDTH / 2) - (SimConstants.CAR_WIDTH / 2);
+        this.y = SimConstants.GAME_HEIGHT - SimConstants.CAR_HEIGHT - 50;
     }
 
     public void moveLeft() {
         if (lane > 0) {
             lane--;
-            x = (GameConstants.GAME_WIDTH / 6) + (lane * GameConstants.LANE_WIDTH) + (GameConstants.LANE_WIDTH / 2) - (GameConstants.CAR_WIDTH / 2);
+            x = (SimConstants.GAME_WIDTH / 6) + (lane * SimConstants.LANE_WIDTH) + (SimConstants.LANE_WIDTH / 2) - (SimConstants.CAR_WIDTH / 2);
         }
     }
 
     public void moveRight() {
-        if (lane < GameConstants.NUM_LANES - 1) {
+        if (lane < SimConstants.NUM_LANES - 1) {
             lane++;
-            x = (GameConstants.GAME_WIDTH / 6) + (lane * GameConstants.LANE_WIDTH) + (GameConstants.LANE_WIDTH / 2) - (GameConstants.CAR_WIDTH / 2);
+            x = (SimConstants.GAME_WIDTH / 6) + (lane * SimConstants.LANE_WIDTH) + (SimConstants.LANE_WIDTH / 2) - (SimConstants.CAR_WIDTH / 2);
         }
     }
 
     /**
-     * Dibuja el coche del jugador usando formas geométricas.
+     * Coloca el coche directamente en un carril (lo usa la vista para seguir a la simulación).
+     * @param newLane El índice del carril.
+     */
+    public void setLane(int newLane) {
+        if (newLane != lane && newLane >= 0 && newLane < SimConstants.NUM_LANES) {
+            lane = newLane;
+            x = (SimConstants.GAME_WIDTH / 6) + (lane * SimConstants.LANE_WIDTH) + (SimConstants.LANE_WIDTH / 2) - (SimConstants.CAR_WIDTH / 2);
+        }
+    }
+
+    /**
+     * Dibuja el coche del jugador con el sprite en caché de su color.
      * @param g2d El objeto Graphics2D usado para dibujar.
      */
     public void draw(Graphics2D g2d) {
-        g2d.setColor(color);
-        g2d.fillRect(x, y, GameConstants.CAR_WIDTH, GameConstants.CAR_HEIGHT); // Cuerpo del coche
-
-        g2d.setColor(Color.BLACK);
-        g2d.setStroke(new BasicStroke(2)); // Borde más grueso
-        g2d.drawRect(x, y, GameConstants.CAR_WIDTH, GameConstants.CAR_HEIGHT); // Borde del cuerpo
-
-        // Ventanas
-        g2d.setColor(new Color(135, 206, 235)); // Azul cielo para ventanas
-        g2d.fillRect(x + 5, y + 10, GameConstants.CAR_WIDTH - 10, GameConstants.CAR_HEIGHT / 4); // Ventana frontal
-        g2d.fillRect(x + 5, y + GameConstants.CAR_HEIGHT - GameConstants.CAR_HEIGHT / 4 - 10, GameConstants.CAR_WIDTH - 10, GameConstants.CAR_HEIGHT / 4); // Ventana trasera
-
-        // Ruedas
-        g2d.setColor(Color.BLACK);
-        g2d.fillRect(x - 5, y + 10, 10, 20); // Rueda delantera izquierda
-        g2d.fillRect(x + GameConstants.CAR_WIDTH - 5, y + 10, 10, 20); // Rueda delantera derecha
-        g2d.fillRect(x - 5, y + GameConstants.CAR_HEIGHT - 30, 10, 20); // Rueda trasera izquierda
-        g2d.fillRect(x + GameConstants.CAR_WIDTH - 5, y + GameConstants.CAR_HEIGHT - 30, 10, 20); // Rueda trasera derecha
+        CarSpriteCache.drawCar(g2d, color, x, y);
     }
 
     /**
@@ -77,19 +73,20 @@ public class PlayerCar {
      * @return Un objeto Rectangle que define la caja delimitadora de la hitbox.
      */
     public Rectangle getBounds() {
-        int hitboxX = x + GameConstants.HITBOX_MARGIN;
-        int hitboxY = y + GameConstants.HITBOX_MARGIN;
-        int hitboxWidth = GameConstants.CAR_WIDTH - (2 * GameConstants.HITBOX_MARGIN);
-        int hitboxHeight = GameConstants.CAR_HEIGHT - (2 * GameConstants.HITBOX_MARGIN);
+        int hitboxX = x + SimConstants.HITBOX_MARGIN;
+        int hitboxY = y + SimConstants.HITBOX_MARGIN;
+        int hitboxWidth = SimConstants.CAR_WIDTH - (2 * SimConstants.HITBOX_MARGIN);
+        int hitboxHeight = SimConstants.CAR_HEIGHT - (2 * SimConstants.HITBOX_MARGIN);
         return new Rectangle(hitboxX, hitboxY, hitboxWidth, hitboxHeight);
     }
 
     /**
      * Verifica si este coche (el jugador) colisiona con otro coche (un obstáculo).
+     * Usa aritmética de enteros sobre las hitboxes en lugar de crear dos Rectangle.
      * @param otherCar El ObstacleCar con el que se va a verificar la colisión.
      * @return true si hay colisión, false en caso contrario.
      */
     public boolean checkCollision(ObstacleCar otherCar) {
-        return getBounds().intersects(otherCar.getBounds());
+        return CollisionSystem.hitboxesOverlap(x, y, otherCar.getX(), otherCar.getY());
     }
 }
\ No newline at end of file
@@ -1,13 +1,26 @@
 // com.tuproyecto.cagaroad.gameobjects.Road.java
 package com.tuproyecto.cagaroad.gameobjects;
 
+import com.tuproyecto.cagaroad.rendering.Palette;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
 import com.tuproyecto.cagaroad.utils.GameConstants;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 
 public class Road {
     private int roadYOffset = 0; // Para simular el desplazamiento vertical del camino
 
+    // Configuración de la carretera; si cambia, la textura se vuelve a generar
+    private int numLanes = SimConstants.NUM_LANES;
+    private int laneWidth = SimConstants.LANE_WIDTH;
+    private Color roadColor = Palette.ROAD_COLOR;
+    private Color lineColor = Palette.ROAD_LINE_COLOR;
+
+    // Textura pre-renderizada: un tramo de carretera con sus guiones que se repite verticalmente
+    private BufferedImage tile;
+    private GraphicsConfiguration tileConfiguration;
+
     public Road() {
         // Constructor, no necesita mucha lógica aquí por ahora
     }
@@ -15,37 +28,118 @@ public class Road {
     // Mueve el camino para crear el efecto de desplazamiento
     public void move(int speed) {
         roadYOffset += speed;
-        // Cuando el offset es igual o mayor a la altura de un "segmento" del camino,
-        // lo reiniciamos para crear un bucle infinito
-        if (roadYOffset >= GameConstants.GAME_HEIGHT) { // Puedes ajustar esto para que sea más fluido
-            roadYOffset = 0;
+        // Cuando el offset llega a la altura de la textura (múltiplo del patrón de guiones),
+        // lo reiniciamos para crear un bucle infinito sin saltos
+        if (roadYOffset >= SimConstants.ROAD_TILE_HEIGHT) {
+            roadYOffset -= SimConstants.ROAD_TILE_HEIGHT;
+        }
+    }
+
+    // Fija el desplazamiento directamente (lo usa la vista para seguir a la simulación)
+    public void setYOffset(int yOffset) {
+        roadYOffset = yOffset;
+    }
+
+    // Cambia el número de carriles, su ancho o los colores; la textura se regenera en el próximo draw
+    public void configure(int newNumLanes, int newLaneWidth, Color newRoadColor, Color newLineColor) {
+        if (newNumLanes != numLanes || newLaneWidth != laneWidth
+                || !newRoadColor.equals(roadColor) || !newLineColor.equals(lineColor)) {
+            numLanes = newNumLanes;
+            laneWidth = newLaneWidth;
+            roadColor = newRoadColor;
+            lineColor = newLineColor;
+            tile = null;
         }
     }
 
-    // Dibuja el camino y sus líneas
+    // Genera la textura para una configuración gráfica si aún no existe (se puede llamar antes del primer draw)
+    public void prepare(GraphicsConfiguration configuration) {
+        if (GameConstants.ROAD_TILE_ENABLED) {
+            prepareTile(configuration);
+        }
+    }
+
+    // Dibuja el camino y sus líneas con el método elegido en GameConstants.ROAD_TILE_ENABLED
     public void draw(Graphics2D g2d) {
+        if (GameConstants.ROAD_TILE_ENABLED) {
+            drawTile(g2d);
+        } else {
+            drawUncached(g2d);
+        }
+    }
+
+    private void prepareTile(GraphicsConfiguration configuration) {
+        if (tile == null || configuration != tileConfiguration) {
+            tile = createTile(configuration);
+            tileConfiguration = configuration;
+        }
+    }
+
+    // Dibuja el camino y sus líneas: dos copias de la textura desplazadas por roadYOffset
+    public void drawTile(Graphics2D g2d) {
+        prepareTile(g2d.getDeviceConfiguration());
+
+        int tileHeight = tile.getHeight();
+        int y = roadYOffset % tileHeight;
+        g2d.drawImage(tile, getRoadX(), y, null);
+        g2d.drawImage(tile, getRoadX(), y - tileHeight, null);
+    }
+
+    // Dibuja el camino figura por figura; queda igual que la textura para el mismo roadYOffset
+    public void drawUncached(Graphics2D g2d) {
         // Dibuja el fondo del camino (gris oscuro)
-        int roadWidth = GameConstants.GAME_WIDTH - 2 * (GameConstants.GAME_WIDTH / 6); // Ancho de la carretera (sin los "céspedes" laterales)
-        int roadX = GameConstants.GAME_WIDTH / 6; // Posición X donde empieza la carretera
+        int roadWidth = numLanes * laneWidth; // Ancho de la carretera (sin los "céspedes" laterales)
+        int roadX = getRoadX(); // Posición X donde empieza la carretera
 
-        g2d.setColor(GameConstants.ROAD_COLOR);
-        g2d.fillRect(roadX, 0, roadWidth, GameConstants.GAME_HEIGHT);
+        g2d.setColor(roadColor);
+        g2d.fillRect(roadX, 0, roadWidth, SimConstants.GAME_HEIGHT);
 
         // Dibuja las líneas divisorias de carriles (amarillas, punteadas)
-        g2d.setColor(GameConstants.ROAD_LINE_COLOR);
-        int dashLength = 40; // Longitud de cada guion de la línea
-        int gapLength = 40;  // Espacio entre guiones
+        g2d.setColor(lineColor);
+        int dashLength = SimConstants.ROAD_DASH_LENGTH; // Longitud de cada guion de la línea
+        int period = dashLength + SimConstants.ROAD_GAP_LENGTH; // Guion más espacio
+        // Primer guion (puede empezar por encima de la pantalla), desplazado para la animación
+        int firstY = roadYOffset % period + SimConstants.ROAD_GAP_LENGTH - period;
 
         // Itera para dibujar las líneas para cada carril (si hay más de uno)
         // Por ejemplo, para 3 carriles, hay 2 líneas divisorias
-        for (int i = 0; i < GameConstants.NUM_LANES - 1; i++) {
+        for (int i = 0; i < numLanes - 1; i++) {
             // Calcula la posición X de la línea divisoria
-            int lineX = roadX + (i + 1) * GameConstants.LANE_WIDTH;
-            // Dibuja los guiones, teniendo en cuenta el desplazamiento para la animación
-            for (int j = -2; j * (dashLength + gapLength) < GameConstants.GAME_HEIGHT + dashLength; j++) {
-                int y = (j * (dashLength + gapLength) + roadYOffset) % (GameConstants.GAME_HEIGHT + dashLength + gapLength) - gapLength;
+            int lineX = roadX + (i + 1) * laneWidth;
+            for (int y = firstY; y < SimConstants.GAME_HEIGHT; y += period) {
                 g2d.fillRect(lineX - 5, y, 10, dashLength); // Dibuja un rectángulo para el guion
             }
         }
     }
-}
\ No newline at end of file
+
+    // Genera la textura: el fondo de la carretera y los guiones de cada línea divisoria
+    private BufferedImage createTile(GraphicsConfiguration configuration) {
+        int roadWidth = numLanes * laneWidth;
+        int tileHeight = SimConstants.ROAD_TILE_HEIGHT;
+        BufferedImage image = configuration != null
+                ? configuration.createCompatibleImage(roadWidth, tileHeight, Transparency.OPAQUE)
+                : new BufferedImage(roadWidth, tileHeight, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setColor(roadColor);
+            g2d.fillRect(0, 0, roadWidth, tileHeight);
+
+            g2d.setColor(lineColor);
+            int period = SimConstants.ROAD_DASH_LENGTH + SimConstants.ROAD_GAP_LENGTH;
+            for (int i = 0; i < numLanes - 1; i++) {
+                int lineX = (i + 1) * laneWidth;
+                for (int y = SimConstants.ROAD_GAP_LENGTH; y < tileHeight; y += period) {
+                    g2d.fillRect(lineX - 5, y, 10, SimConstants.ROAD_DASH_LENGTH);
+                }
+            }
+        } finally {
+            g2d.dispose();
+        }
+        return image;
+    }
+
+    private int getRoadX() {
+        return (SimConstants.GAME_WIDTH - numLanes * laneWidth) / 2; // Carretera centrada entre los "céspedes"
+    }
+}
@@ -0,0 +1,107 @@
+package com.tuproyecto.cagaroad.input;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cola circular acotada de eventos de teclado, para un único productor (el hilo que recibe
+ * los KeyEvent) y un único consumidor (el paso de la simulación). No usa bloqueos ni crea
+ * objetos por evento: cada evento se guarda en arreglos paralelos de primitivos.
+ * Si la cola está llena el evento se descarta y se contabiliza.
+ */
+public class InputQueue {
+
+    /**
+     * Recibe los eventos al vaciar la cola, en el orden en que llegaron.
+     */
+    public interface Handler {
+        /**
+         * @param keyCode El código de la tecla (KeyEvent.VK_*).
+         * @param pressed true si se presionó, false si se soltó.
+         * @param eventNanos El instante del evento según System.nanoTime(), derivado de KeyEvent.getWhen().
+         */
+        void onKey(int keyCode, boolean pressed, long eventNanos);
+    }
+
+    private final int mask;
+    private final int[] keyCodes;
+    private final boolean[] pressed;
+    private final long[] eventNanos;
+
+    private final AtomicLong head = new AtomicLong(); // Próximo índice a leer (solo lo avanza el consumidor)
+    private final AtomicLong tail = new AtomicLong(); // Próximo índice a escribir (solo lo avanza el productor)
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Constructor del InputQueue.
+     * @param capacity Capacidad de la cola; se redondea a la siguiente potencia de dos.
+     */
+    public InputQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity debe ser positiva");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        mask = size - 1;
+        keyCodes = new int[size];
+        pressed = new boolean[size];
+        eventNanos = new long[size];
+    }
+
+    /**
+     * Encola un evento. Solo debe llamarlo el hilo productor.
+     * @param keyCode El código de la tecla.
+     * @param isPressed true si se presionó, false si se soltó.
+     * @param whenMillis El valor de KeyEvent.getWhen() (milisegundos de reloj de pared).
+     * @return false si la cola estaba llena y el evento se descartó.
+     */
+    public boolean offer(int keyCode, boolean isPressed, long whenMillis) {
+        long t = tail.get();
+        if (t - head.get() > mask) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        // Se traduce getWhen() al reloj de System.nanoTime() restando lo que tardó el evento en llegar aquí
+        long now = System.nanoTime();
+        long dispatchDelayMillis = Math.max(0, System.currentTimeMillis() - whenMillis);
+
+        int slot = (int) t & mask;
+        keyCodes[slot] = keyCode;
+        pressed[slot] = isPressed;
+        eventNanos[slot] = now - dispatchDelayMillis * 1_000_000L;
+        tail.lazySet(t + 1); // Publica el evento después de escribir sus campos
+        return true;
+    }
+
+    /**
+     * Entrega al handler todos los eventos pendientes. Solo debe llamarlo el hilo consumidor.
+     * @param handler Quien procesa cada evento.
+     * @return El número de eventos entregados.
+     */
+    public int drain(Handler handler) {
+        long h = head.get();
+        long t = tail.get();
+        for (long i = h; i < t; i++) {
+            int slot = (int) i & mask;
+            handler.onKey(keyCodes[slot], pressed[slot], eventNanos[slot]);
+        }
+        head.lazySet(t); // Libera los huecos para el productor
+        return (int) (t - h);
+    }
+
+    /**
+     * Descarta los eventos pendientes. Solo debe llamarlo el hilo consumidor.
+     */
+    public void clear() {
+        head.lazySet(tail.get());
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,129 @@
+package com.tuproyecto.cagaroad.input;
+
+import com.tuproyecto.cagaroad.perf.LatencyHistogram;
+import com.tuproyecto.cagaroad.simulation.PlayerInput;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import com.tuproyecto.cagaroad.utils.GameConstants;
+
+import java.awt.event.KeyEvent;
+
+/**
+ * Estado del teclado visto desde la simulación. Al comienzo de cada paso se vacía la
+ * InputQueue y se decide la única acción (PlayerInput) que se aplica en ese paso.
+ * Cada pulsación nueva de IZQUIERDA/DERECHA mueve un carril; si la tecla se mantiene,
+ * tras GameConstants.INPUT_REPEAT_DELAY_TICKS se repite cada INPUT_REPEAT_INTERVAL_TICKS.
+ * Si se presionan varias flechas antes de un paso, los movimientos se aplican en pasos seguidos.
+ */
+public class InputState implements InputQueue.Handler {
+
+    private final LatencyHistogram latency; // Del evento de teclado al paso que aplicó el movimiento
+
+    private boolean leftHeld;
+    private boolean rightHeld;
+    private PlayerInput heldDirection = PlayerInput.NONE; // La última flecha presionada que sigue abajo
+    private int heldTicks;
+
+    // Movimientos por pulsaciones nuevas aún no aplicados, en orden de llegada (cola circular).
+    // Más movimientos que carriles no tienen efecto, así que caben NUM_LANES - 1.
+    private final PlayerInput[] pendingMoves = new PlayerInput[Math.max(1, SimConstants.NUM_LANES - 1)];
+    private final long[] pendingNanos = new long[pendingMoves.length]; // Instante del evento de cada movimiento
+    private int pendingHead;
+    private int pendingCount;
+
+    /**
+     * Constructor del InputState.
+     * @param latency Histograma donde se registra la latencia de cada pulsación, en nanosegundos.
+     */
+    public InputState(LatencyHistogram latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Vacía la cola y calcula la acción del paso actual.
+     * @param queue La cola de eventos de teclado.
+     * @param now El instante actual según System.nanoTime().
+     * @return La acción que debe aplicarse en este paso.
+     */
+    public PlayerInput nextInput(InputQueue queue, long now) {
+        queue.drain(this);
+
+        if (pendingCount > 0) {
+            PlayerInput move = pendingMoves[pendingHead];
+            latency.record(Math.max(0, now - pendingNanos[pendingHead]));
+            pendingHead = (pendingHead + 1) % pendingMoves.length;
+            pendingCount--;
+            return move;
+        }
+
+        if (heldDirection == PlayerInput.NONE) {
+            return PlayerInput.NONE;
+        }
+        heldTicks++;
+        int repeatTicks = heldTicks - GameConstants.INPUT_REPEAT_DELAY_TICKS;
+        if (repeatTicks >= 0 && repeatTicks % GameConstants.INPUT_REPEAT_INTERVAL_TICKS == 0) {
+            return heldDirection;
+        }
+        return PlayerInput.NONE;
+    }
+
+    @Override
+    public void onKey(int keyCode, boolean pressed, long eventNanos) {
+        if (keyCode == KeyEvent.VK_LEFT) {
+            if (pressed && !leftHeld) {
+                queueMove(PlayerInput.LEFT, eventNanos);
+                heldDirection = PlayerInput.LEFT;
+                heldTicks = 0;
+            }
+            leftHeld = pressed;
+        } else if (keyCode == KeyEvent.VK_RIGHT) {
+            if (pressed && !rightHeld) {
+                queueMove(PlayerInput.RIGHT, eventNanos);
+                heldDirection = PlayerInput.RIGHT;
+                heldTicks = 0;
+            }
+            rightHeld = pressed;
+        } else {
+            return;
+        }
+
+        // Si se soltó la flecha que mandaba, la otra (si sigue abajo) toma el relevo
+        if (heldDirection == PlayerInput.LEFT && !leftHeld) {
+            heldDirection = rightHeld ? PlayerInput.RIGHT : PlayerInput.NONE;
+            heldTicks = 0;
+        } else if (heldDirection == PlayerInput.RIGHT && !rightHeld) {
+            heldDirection = leftHeld ? PlayerInput.LEFT : PlayerInput.NONE;
+            heldTicks = 0;
+        }
+    }
+
+    // Con la cola llena se descarta la pulsación nueva
+    private void queueMove(PlayerInput direction, long eventNanos) {
+        if (pendingCount == pendingMoves.length) {
+            return;
+        }
+        int tail = (pendingHead + pendingCount) % pendingMoves.length;
+        pendingMoves[tail] = direction;
+        pendingNanos[tail] = eventNanos;
+        pendingCount++;
+    }
+
+    /**
+     * Olvida las teclas mantenidas y los movimientos pendientes (al empezar una partida).
+     */
+    public void reset() {
+        leftHeld = false;
+        rightHeld = false;
+        heldDirection = PlayerInput.NONE;
+        heldTicks = 0;
+        pendingHead = 0;
+        pendingCount = 0;
+    }
+
+    public boolean isLeftHeld() {
+        return leftHeld;
+    }
+
+    public boolean isRightHeld() {
+        return rightHeld;
+    }
+}
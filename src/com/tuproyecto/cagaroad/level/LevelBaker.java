@@ -0,0 +1,77 @@
+package com.tuproyecto.cagaroad.level;
+
+import com.tuproyecto.cagaroad.analysis.SolvabilityAnalyzer;
+import com.tuproyecto.cagaroad.simulation.GameRandom;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import com.tuproyecto.cagaroad.simulation.WaveGenerator;
+import com.tuproyecto.cagaroad.utils.GameConstants;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Convierte el generador aleatorio en pistas fijas para los Niveles 1 a 3.
+ * Para cada nivel busca, desde la semilla inicial, la primera semilla cuyas oleadas tienen
+ * solución según el {@link SolvabilityAnalyzer}, y guarda esas oleadas (las mismas que se verían
+ * jugando con esa semilla) como pista en la carpeta de salida. Después vuelve a leer el archivo y
+ * lo comprueba con el mismo analizador, con la separación guardada en la pista.
+ *
+ * Uso: java -cp cagaroad.jar com.tuproyecto.cagaroad.level.LevelBaker [carpetaDeSalida] [semillaInicial]
+ * Por defecto escribe en resources/levels, de donde el juego las empaqueta.
+ */
+public class LevelBaker {
+
+    private static final String DEFAULT_OUTPUT_DIR = "resources/levels";
+
+    private final SolvabilityAnalyzer analyzer = new SolvabilityAnalyzer();
+
+    /**
+     * Guarda la pista de un nivel.
+     * @param level El número del nivel (1 en adelante).
+     * @param firstSeed La primera semilla que se prueba.
+     * @param file El archivo de destino.
+     * @return La semilla usada.
+     */
+    public long bake(int level, long firstSeed, Path file) throws IOException {
+        int levelLength = SimConstants.LEVEL_LENGTHS[level];
+        int waveCount = levelLength / SimConstants.WAVE_SPACING; // Las oleadas que aparecen antes de la meta
+
+        long seed = firstSeed;
+        while (!analyzer.isSolvable(level, seed)) {
+            seed++;
+        }
+
+        WaveGenerator generator = new WaveGenerator();
+        generator.setLevel(level);
+        GameRandom random = new GameRandom(seed);
+        int[] colorByLane = new int[SimConstants.NUM_LANES];
+        try (TrackWriter writer = new TrackWriter(Files.newOutputStream(file), levelLength, waveCount)) {
+            for (int wave = 0; wave < waveCount; wave++) {
+                int count = generator.generate(random);
+                for (int i = 0; i < count; i++) {
+                    colorByLane[generator.getLane(i)] = generator.getColorIndex(i);
+                }
+                writer.writeWave(SimConstants.WAVE_SPACING, generator.getBlockedMask(), colorByLane);
+            }
+        }
+        if (!analyzer.isSolvable(level, TrackWaveSource.fromFile(file))) {
+            throw new IOException("La pista " + file + " no tiene solución");
+        }
+        return seed;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path outputDir = Paths.get(args.length > 0 ? args[0] : DEFAULT_OUTPUT_DIR);
+        long firstSeed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+        Files.createDirectories(outputDir);
+
+        LevelBaker baker = new LevelBaker();
+        for (int level = 1; level < SimConstants.LEVEL_LENGTHS.length; level++) {
+            Path file = outputDir.resolve(Paths.get(String.format(GameConstants.LEVEL_TRACK_RESOURCE, level)).getFileName());
+            long seed = baker.bake(level, firstSeed + level, file);
+            System.out.printf("Nivel %d: semilla %d -> %s (%d bytes)%n", level, seed, file, Files.size(file));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.tuproyecto.cagaroad.level;
+
+/**
+ * Formato binario de las pistas de nivel (.cgl).
+ *
+ * Cabecera de HEADER_SIZE bytes: MAGIC, versión, cantidad de carriles para la que se hizo la
+ * pista, longitud del nivel en px y cantidad de oleadas.
+ *
+ * Después, WAVE_SIZE bytes por oleada, todas del mismo tamaño para poder saltar directamente a
+ * cualquiera de ellas: la separación en px desde la oleada anterior (short sin signo) y un int con
+ * la máscara de carriles bloqueados en los bits 0..7 y, desde el bit 8, COLOR_BITS bits por
+ * carril con el índice de color del coche de ese carril.
+ */
+final class LevelFormat {
+
+    static final int MAGIC = 0x43474C56; // "CGLV"
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 5 * Integer.BYTES;
+    static final int WAVE_SIZE = Short.BYTES + Integer.BYTES;
+
+    static final int MAX_LANES = 8;
+    static final int LANE_MASK_BITS = 8;
+    static final int COLOR_BITS = 3;
+    static final int COLOR_MASK = (1 << COLOR_BITS) - 1;
+    static final int MAX_SPACING = 0xFFFF;
+
+    private LevelFormat() {
+    }
+
+    /**
+     * Empaqueta la máscara de carriles y el color de cada carril bloqueado en un int.
+     */
+    static int packWave(int blockedMask, int[] colorByLane) {
+        int packed = blockedMask;
+        for (int lane = 0; lane < MAX_LANES; lane++) {
+            if ((blockedMask & (1 << lane)) != 0) {
+                packed |= (colorByLane[lane] & COLOR_MASK) << (LANE_MASK_BITS + lane * COLOR_BITS);
+            }
+        }
+        return packed;
+    }
+
+    static int blockedMask(int packed) {
+        return packed & ((1 << LANE_MASK_BITS) - 1);
+    }
+
+    static int colorIndex(int packed, int lane) {
+        return (packed >>> (LANE_MASK_BITS + lane * COLOR_BITS)) & COLOR_MASK;
+    }
+}
@@ -0,0 +1,51 @@
+package com.tuproyecto.cagaroad.level;
+
+import com.tuproyecto.cagaroad.simulation.PregeneratedWaveSource;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import com.tuproyecto.cagaroad.simulation.WaveSource;
+import com.tuproyecto.cagaroad.utils.GameConstants;
+import com.tuproyecto.cagaroad.utils.GameLogger;
+
+import java.io.IOException;
+
+/**
+ * Elige las oleadas de cada nivel: la pista empaquetada en GameConstants.LEVEL_TRACK_RESOURCE
+ * si existe, o las oleadas aleatorias si no. El Modo Infinito siempre es aleatorio, con las oleadas
+ * generadas por adelantado en segundo plano (GameConstants.PREGENERATE_WAVES).
+ * Cada fuente se crea la primera vez que se juega su nivel y luego se reutiliza, así que una
+ * LevelLibrary pertenece a una sola Simulation.
+ */
+public class LevelLibrary implements WaveSource.Provider {
+
+    private static final GameLogger LOG = GameLogger.get("LevelLibrary");
+
+    private final TrackWaveSource[] tracks = new TrackWaveSource[SimConstants.LEVEL_LENGTHS.length];
+    private final boolean[] looked = new boolean[SimConstants.LEVEL_LENGTHS.length];
+    private PregeneratedWaveSource infiniteWaves;
+
+    @Override
+    public WaveSource forLevel(int level) {
+        if (level == 0 && GameConstants.PREGENERATE_WAVES) {
+            if (infiniteWaves == null) {
+                infiniteWaves = new PregeneratedWaveSource(GameConstants.WAVE_QUEUE_CAPACITY);
+            }
+            return infiniteWaves;
+        }
+        if (!GameConstants.USE_LEVEL_TRACKS || level <= 0 || level >= tracks.length) {
+            return null;
+        }
+        if (!looked[level]) {
+            looked[level] = true;
+            String resource = String.format(GameConstants.LEVEL_TRACK_RESOURCE, level);
+            try {
+                tracks[level] = TrackWaveSource.fromResource(resource);
+                if (tracks[level] != null) {
+                    LOG.debug("Nivel {}: pista {} con {} oleadas", level, resource, tracks[level].getWaveCount());
+                }
+            } catch (IOException e) {
+                LOG.warn("Pista no válida, el nivel {} será aleatorio: {}", level, e.getMessage());
+            }
+        }
+        return tracks[level];
+    }
+}
@@ -0,0 +1,226 @@
+package com.tuproyecto.cagaroad.level;
+
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import com.tuproyecto.cagaroad.simulation.WaveSource;
+import com.tuproyecto.cagaroad.utils.GameLogger;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Oleadas leídas de una pista de nivel (.cgl) a medida que avanza la partida.
+ * Nunca se carga la pista entera: se lee una oleada cada vez que la simulación la pide, desde un
+ * stream con un buffer pequeño, así una pista muy larga ocupa lo mismo en memoria que una corta.
+ * Volver atrás (reiniciar el nivel o restaurar una instantánea) vuelve a abrir el archivo y salta
+ * directamente a la oleada pedida, porque todas las oleadas ocupan lo mismo.
+ * Si la pista no se puede leer a mitad de partida, o una oleada trae un índice de color que no existe
+ * (pista dañada), se avisa en el log y el nivel sigue sin más oleadas.
+ */
+public class TrackWaveSource implements WaveSource {
+
+    private static final GameLogger LOG = GameLogger.get("TrackWaveSource");
+
+    private static final int BUFFER_SIZE = 4096;
+
+    /**
+     * Abre de nuevo el contenido de la pista (desde el classpath o desde un archivo).
+     */
+    private interface Opener {
+        InputStream open() throws IOException;
+    }
+
+    private final String name;
+    private final Opener opener;
+    private final int levelLength;
+    private final int waveCount;
+
+    private DataInputStream in; // null hasta la primera lectura o tras un error
+    private long nextIndex; // Próxima oleada que se leerá del stream
+    private long index = -1; // Oleada actual (-1: ninguna)
+
+    // Oleada actual
+    private final int[] lanes = new int[SimConstants.NUM_LANES];
+    private final int[] colorIndexes = new int[SimConstants.NUM_LANES];
+    private int count;
+    private int spacing;
+
+    private TrackWaveSource(String name, Opener opener) throws IOException {
+        this.name = name;
+        this.opener = opener;
+        try (DataInputStream header = new DataInputStream(opener.open())) {
+            if (header.readInt() != LevelFormat.MAGIC) {
+                throw new IOException("No es una pista de CAGAROAD: " + name);
+            }
+            int version = header.readInt();
+            if (version != LevelFormat.VERSION) {
+                throw new IOException("Versión de pista no soportada: " + version);
+            }
+            int lanesInTrack = header.readInt();
+            if (lanesInTrack != SimConstants.NUM_LANES) {
+                throw new IOException("La pista " + name + " es para " + lanesInTrack + " carriles");
+            }
+            levelLength = header.readInt();
+            waveCount = header.readInt();
+        } catch (EOFException e) {
+            throw new IOException("Pista incompleta: " + name, e);
+        }
+    }
+
+    /**
+     * Prepara la lectura de una pista empaquetada con el juego. Solo se lee la cabecera.
+     * @param resourceName El nombre del recurso en el classpath (ej: "levels/nivel1.cgl").
+     * @return La fuente de oleadas, o null si el recurso no existe.
+     * @throws IOException Si la cabecera no es válida.
+     */
+    public static TrackWaveSource fromResource(String resourceName) throws IOException {
+        if (TrackWaveSource.class.getResource("/" + resourceName) == null) {
+            return null;
+        }
+        return new TrackWaveSource(resourceName, () -> {
+            InputStream stream = TrackWaveSource.class.getResourceAsStream("/" + resourceName);
+            if (stream == null) {
+                throw new IOException("No se pudo encontrar el recurso: " + resourceName);
+            }
+            return stream;
+        });
+    }
+
+    /**
+     * Prepara la lectura de una pista guardada en disco. Solo se lee la cabecera.
+     * @param file La ruta del archivo .cgl.
+     * @return La fuente de oleadas.
+     * @throws IOException Si el archivo no existe o la cabecera no es válida.
+     */
+    public static TrackWaveSource fromFile(Path file) throws IOException {
+        return new TrackWaveSource(file.toString(), () -> Files.newInputStream(file));
+    }
+
+    @Override
+    public void reset(long seed) {
+        index = -1;
+        count = 0;
+        if (nextIndex > 0) {
+            closeStream(); // Se vuelve a abrir desde el comienzo en la próxima lectura
+        }
+    }
+
+    @Override
+    public boolean next() {
+        if (index + 1 >= waveCount) {
+            closeStream(); // La pista terminó; no hace falta seguir con el archivo abierto
+            return false;
+        }
+        return read(index + 1);
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getLane(int index) {
+        return lanes[index];
+    }
+
+    @Override
+    public int getColorIndex(int index) {
+        return colorIndexes[index];
+    }
+
+    @Override
+    public int getSpacing() {
+        return spacing;
+    }
+
+    @Override
+    public int getLevelLength() {
+        return levelLength;
+    }
+
+    /**
+     * @return El número de la oleada actual (-1 si todavía no hay ninguna).
+     */
+    @Override
+    public long getPosition() {
+        return index;
+    }
+
+    @Override
+    public void setPosition(long position) {
+        if (position < 0) {
+            reset(0);
+        } else if (position < waveCount) {
+            read(position);
+        }
+    }
+
+    /**
+     * @return Cuántas oleadas tiene la pista.
+     */
+    public int getWaveCount() {
+        return waveCount;
+    }
+
+    // Lee la oleada wave como actual, saltando o volviendo a abrir el stream si hace falta
+    private boolean read(long wave) {
+        try {
+            if (in == null || wave < nextIndex) {
+                reopen();
+            }
+            if (wave > nextIndex) {
+                in.skipNBytes((wave - nextIndex) * LevelFormat.WAVE_SIZE);
+            }
+            int waveSpacing = in.readUnsignedShort();
+            int packed = in.readInt();
+            nextIndex = wave + 1;
+
+            int blockedMask = LevelFormat.blockedMask(packed);
+            count = 0;
+            for (int lane = 0; lane < SimConstants.NUM_LANES; lane++) {
+                if ((blockedMask & (1 << lane)) != 0) {
+                    int color = LevelFormat.colorIndex(packed, lane);
+                    if (color >= SimConstants.OBSTACLE_COLOR_COUNT) {
+                        throw new IOException("índice de color " + color + " en la oleada " + wave);
+                    }
+                    lanes[count] = lane;
+                    colorIndexes[count] = color;
+                    count++;
+                }
+            }
+            spacing = waveSpacing;
+            index = wave;
+            return true;
+        } catch (IOException e) {
+            LOG.warn("No se pudo leer la pista {}: {}", name, e.getMessage());
+            closeStream();
+            index = waveCount; // Sin más oleadas
+            count = 0;
+            return false;
+        }
+    }
+
+    private void reopen() throws IOException {
+        closeStream();
+        in = new DataInputStream(new BufferedInputStream(opener.open(), BUFFER_SIZE));
+        in.skipNBytes(LevelFormat.HEADER_SIZE);
+        nextIndex = 0;
+    }
+
+    private void closeStream() {
+        if (in != null) {
+            try {
+                in.close();
+            } catch (IOException e) {
+                // Solo se estaba leyendo; no hay nada que perder
+            }
+            in = null;
+        }
+        nextIndex = 0;
+    }
+}
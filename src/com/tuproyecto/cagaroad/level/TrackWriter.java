@@ -0,0 +1,75 @@
+package com.tuproyecto.cagaroad.level;
+
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Escribe una pista de nivel (.cgl) oleada por oleada, sin guardarla entera en memoria.
+ * Hay que escribir exactamente las oleadas anunciadas en el constructor.
+ */
+public class TrackWriter implements Closeable {
+
+    private final DataOutputStream out;
+    private final int waveCount;
+    private int written;
+
+    /**
+     * Constructor del TrackWriter. Escribe la cabecera enseguida.
+     * @param output El destino; se cierra junto con el TrackWriter.
+     * @param levelLength La longitud del nivel en px.
+     * @param waveCount Cuántas oleadas tendrá la pista.
+     */
+    public TrackWriter(OutputStream output, int levelLength, int waveCount) throws IOException {
+        if (SimConstants.NUM_LANES > LevelFormat.MAX_LANES) {
+            throw new IOException("El formato de pista admite hasta " + LevelFormat.MAX_LANES + " carriles");
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(output));
+        this.waveCount = waveCount;
+        out.writeInt(LevelFormat.MAGIC);
+        out.writeInt(LevelFormat.VERSION);
+        out.writeInt(SimConstants.NUM_LANES);
+        out.writeInt(levelLength);
+        out.writeInt(waveCount);
+    }
+
+    /**
+     * Añade una oleada.
+     * @param spacing Los px desde la oleada anterior (o desde la salida, para la primera).
+     * @param blockedMask Los carriles bloqueados (bit i = carril i); siempre debe quedar alguno libre.
+     * @param colorByLane El índice de color del coche de cada carril bloqueado (0..OBSTACLE_COLOR_COUNT-1).
+     */
+    public void writeWave(int spacing, int blockedMask, int[] colorByLane) throws IOException {
+        if (written == waveCount) {
+            throw new IOException("La pista ya tiene sus " + waveCount + " oleadas");
+        }
+        if (spacing <= 0 || spacing > LevelFormat.MAX_SPACING) {
+            throw new IOException("Separación fuera de rango: " + spacing);
+        }
+        int allLanes = (1 << SimConstants.NUM_LANES) - 1;
+        if ((blockedMask & ~allLanes) != 0 || blockedMask == allLanes) {
+            throw new IOException("Máscara de carriles inválida: " + Integer.toBinaryString(blockedMask));
+        }
+        for (int lane = 0; lane < SimConstants.NUM_LANES; lane++) {
+            if ((blockedMask & (1 << lane)) != 0
+                    && (colorByLane[lane] < 0 || colorByLane[lane] >= SimConstants.OBSTACLE_COLOR_COUNT)) {
+                throw new IOException("Índice de color fuera de rango en el carril " + lane + ": " + colorByLane[lane]);
+            }
+        }
+        out.writeShort(spacing);
+        out.writeInt(LevelFormat.packWave(blockedMask, colorByLane));
+        written++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+        if (written != waveCount) {
+            throw new IOException("Se anunciaron " + waveCount + " oleadas pero se escribieron " + written);
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.tuproyecto.cagaroad.panels;
 
 import com.tuproyecto.cagaroad.GameFrame;
 import com.tuproyecto.cagaroad.GameState;
-import com.tuproyecto.cagaroad.utils.GameConstants;
+import com.tuproyecto.cagaroad.rendering.CarSpriteCache;
+import com.tuproyecto.cagaroad.rendering.Palette;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
 
 import javax.swing.*;
 import java.awt.*;
@@ -16,11 +18,11 @@ import java.awt.event.MouseEvent;
 public class CustomizePanel extends JPanel {
 
     private GameFrame gameFrame;
-    private Color selectedCarColor = Color.RED; // Color inicial por defecto del coche
+    private Color selectedCarColor = Palette.DEFAULT_PLAYER_CAR_COLOR; // Color inicial por defecto del coche
     private JLabel backButton; // Etiqueta para el botón "Volver al Menú"
 
     // Colores disponibles (sin Color.WHITE)
-    private final Color[] AVAILABLE_COLORS = {Color.BLACK, Color.RED, Color.YELLOW, Color.CYAN, Color.MAGENTA};
+    private final Color[] AVAILABLE_COLORS = Palette.PLAYER_CAR_COLORS;
 
     // Constantes para el diseño y posicionamiento
     private static final int TITLE_TOP_MARGIN = 50;
@@ -29,8 +31,8 @@ public class CustomizePanel extends JPanel {
     private static final int BACK_BUTTON_BOTTOM_MARGIN = 80;
 
     // ¡NUEVO! Posición horizontal para los cuadros de color y el coche de preview
-    private static final int COLOR_BOX_START_X = GameConstants.GAME_WIDTH / 4 - COLOR_BOX_SIZE / 2; // Centrado en el primer cuarto de la pantalla
-    private static final int CAR_PREVIEW_X = GameConstants.GAME_WIDTH / 2 + 50; // Posición X para el coche de preview
+    private static final int COLOR_BOX_START_X = SimConstants.GAME_WIDTH / 4 - COLOR_BOX_SIZE / 2; // Centrado en el primer cuarto de la pantalla
+    private static final int CAR_PREVIEW_X = SimConstants.GAME_WIDTH / 2 + 50; // Posición X para el coche de preview
 
     /**
      * Constructor del CustomizePanel.
@@ -38,7 +40,7 @@ public class CustomizePanel extends JPanel {
      */
     public CustomizePanel(GameFrame gameFrame) {
         this.gameFrame = gameFrame;
-        setPreferredSize(new Dimension(GameConstants.GAME_WIDTH, GameConstants.GAME_HEIGHT));
+        setPreferredSize(new Dimension(SimConstants.GAME_WIDTH, SimConstants.GAME_HEIGHT));
         setBackground(Color.DARK_GRAY); // Fondo gris oscuro para un buen contraste
         setLayout(null); // Usamos layout nulo para posicionar manualmente
 
@@ -46,13 +48,13 @@ public class CustomizePanel extends JPanel {
         JLabel title = new JLabel("Selecciona un color");
         title.setFont(new Font("Arial", Font.BOLD, 40));
         title.setForeground(Color.WHITE);
-        title.setBounds((GameConstants.GAME_WIDTH - title.getPreferredSize().width) / 2, TITLE_TOP_MARGIN, title.getPreferredSize().width, 50);
+        title.setBounds((SimConstants.GAME_WIDTH - title.getPreferredSize().width) / 2, TITLE_TOP_MARGIN, title.getPreferredSize().width, 50);
         add(title);
 
         // --- Configuración de los Cuadros de Selección de Color ---
         // Calcular la posición Y inicial para centrar verticalmente el bloque de colores
         int totalColorsHeight = AVAILABLE_COLORS.length * COLOR_BOX_SIZE + (AVAILABLE_COLORS.length - 1) * COLOR_BOX_SPACING_VERTICAL;
-        int colorsBlockStartY = (GameConstants.GAME_HEIGHT - totalColorsHeight) / 2;
+        int colorsBlockStartY = (SimConstants.GAME_HEIGHT - totalColorsHeight) / 2;
 
         for (int i = 0; i < AVAILABLE_COLORS.length; i++) {
             Color color = AVAILABLE_COLORS[i];
@@ -96,8 +98,8 @@ public class CustomizePanel extends JPanel {
             @Override
             public void mouseExited(MouseEvent e) { backButton.setForeground(Color.WHITE); }
         });
-        backButton.setBounds(GameConstants.GAME_WIDTH / 2 - backButton.getPreferredSize().width / 2,
-                GameConstants.GAME_HEIGHT - BACK_BUTTON_BOTTOM_MARGIN,
+        backButton.setBounds(SimConstants.GAME_WIDTH / 2 - backButton.getPreferredSize().width / 2,
+                SimConstants.GAME_HEIGHT - BACK_BUTTON_BOTTOM_MARGIN,
                 backButton.getPreferredSize().width, 30);
         add(backButton);
 
@@ -120,33 +122,18 @@ public class CustomizePanel extends JPanel {
 
         // Dibuja el auto del jugador con el color seleccionado usando formas geométricas.
         // El coche de preview se centra verticalmente.
-        int carPreviewY = GameConstants.GAME_HEIGHT / 2 - GameConstants.CAR_HEIGHT / 2;
+        int carPreviewY = SimConstants.GAME_HEIGHT / 2 - SimConstants.CAR_HEIGHT / 2;
         drawCar((Graphics2D) g, selectedCarColor, CAR_PREVIEW_X, carPreviewY);
     }
 
     /**
-     * Método auxiliar para dibujar un coche genérico (usando formas geométricas).
+     * Método auxiliar para dibujar un coche genérico (con el sprite en caché de CarSpriteCache).
      * @param g2d El objeto Graphics2D usado para dibujar.
      * @param bodyColor El color principal del cuerpo del coche.
      * @param x La coordenada X de la esquina superior izquierda del coche.
      * @param y La coordenada Y de la esquina superior izquierda del coche.
      */
     private void drawCar(Graphics2D g2d, Color bodyColor, int x, int y) {
-        g2d.setColor(bodyColor);
-        g2d.fillRect(x, y, GameConstants.CAR_WIDTH, GameConstants.CAR_HEIGHT);
-
-        g2d.setColor(Color.BLACK);
-        g2d.setStroke(new BasicStroke(2));
-        g2d.drawRect(x, y, GameConstants.CAR_WIDTH, GameConstants.CAR_HEIGHT);
-
-        g2d.setColor(new Color(135, 206, 235));
-        g2d.fillRect(x + 5, y + 10, GameConstants.CAR_WIDTH - 10, GameConstants.CAR_HEIGHT / 4);
-        g2d.fillRect(x + 5, y + GameConstants.CAR_HEIGHT - GameConstants.CAR_HEIGHT / 4 - 10, GameConstants.CAR_WIDTH - 10, GameConstants.CAR_HEIGHT / 4);
-
-        g2d.setColor(Color.BLACK);
-        g2d.fillRect(x - 5, y + 10, 10, 20);
-        g2d.fillRect(x + GameConstants.CAR_WIDTH - 5, y + 10, 10, 20);
-        g2d.fillRect(x - 5, y + GameConstants.CAR_HEIGHT - 30, 10, 20);
-        g2d.fillRect(x + GameConstants.CAR_WIDTH - 5, y + GameConstants.CAR_HEIGHT - 30, 10, 20);
+        CarSpriteCache.drawCar(g2d, bodyColor, x, y);
     }
 }//
\ No newline at end of file
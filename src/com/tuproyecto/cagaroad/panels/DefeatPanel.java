@@ -2,7 +2,8 @@ package com.tuproyecto.cagaroad.panels;
 
 import com.tuproyecto.cagaroad.GameFrame;
 import com.tuproyecto.cagaroad.GameState;
-import com.tuproyecto.cagaroad.utils.GameConstants;
+import com.tuproyecto.cagaroad.rendering.CarSpriteCache;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
 
 import javax.swing.*;
 import java.awt.*;
@@ -25,7 +26,7 @@ public class DefeatPanel extends JPanel {
 
     public DefeatPanel(GameFrame gameFrame) {
         this.gameFrame = gameFrame;
-        setPreferredSize(new Dimension(GameConstants.GAME_WIDTH, GameConstants.GAME_HEIGHT));
+        setPreferredSize(new Dimension(SimConstants.GAME_WIDTH, SimConstants.GAME_HEIGHT));
         setBackground(new Color(150, 50, 50));
         setLayout(new GridBagLayout());
 
@@ -99,29 +100,14 @@ public class DefeatPanel extends JPanel {
         Graphics2D g2d = (Graphics2D) g;
 
         Color playerColor = gameFrame.getPlayerCarColor();
-        int playerX = GameConstants.GAME_WIDTH / 2 - GameConstants.CAR_WIDTH / 2;
-        int playerY = GameConstants.GAME_HEIGHT / 2 + 50;
+        int playerX = SimConstants.GAME_WIDTH / 2 - SimConstants.CAR_WIDTH / 2;
+        int playerY = SimConstants.GAME_HEIGHT / 2 + 50;
 
         drawGenericCar(g2d, playerColor, playerX, playerY);
-        drawGenericCar(g2d, Color.GREEN, playerX, playerY - GameConstants.CAR_HEIGHT + 20);
+        drawGenericCar(g2d, Color.GREEN, playerX, playerY - SimConstants.CAR_HEIGHT + 20);
     }
 
     private void drawGenericCar(Graphics2D g2d, Color bodyColor, int x, int y) {
-        g2d.setColor(bodyColor);
-        g2d.fillRect(x, y, GameConstants.CAR_WIDTH, GameConstants.CAR_HEIGHT);
-
-        g2d.setColor(Color.BLACK);
-        g2d.setStroke(new BasicStroke(2));
-        g2d.drawRect(x, y, GameConstants.CAR_WIDTH, GameConstants.CAR_HEIGHT);
-
-        g2d.setColor(new Color(135, 206, 235));
-        g2d.fillRect(x + 5, y + 10, GameConstants.CAR_WIDTH - 10, GameConstants.CAR_HEIGHT / 4);
-        g2d.fillRect(x + 5, y + GameConstants.CAR_HEIGHT - GameConstants.CAR_HEIGHT / 4 - 10, GameConstants.CAR_WIDTH - 10, GameConstants.CAR_HEIGHT / 4);
-
-        g2d.setColor(Color.BLACK);
-        g2d.fillRect(x - 5, y + 10, 10, 20);
-        g2d.fillRect(x + GameConstants.CAR_WIDTH - 5, y + 10, 10, 20);
-        g2d.fillRect(x - 5, y + GameConstants.CAR_HEIGHT - 30, 10, 20);
-        g2d.fillRect(x + GameConstants.CAR_WIDTH - 5, y + GameConstants.CAR_HEIGHT - 30, 10, 20);
+        CarSpriteCache.drawCar(g2d, bodyColor, x, y);
     }
 }
\ No newline at end of file
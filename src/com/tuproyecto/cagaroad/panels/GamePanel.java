@@ -2,10 +2,26 @@ package com.tuproyecto.cagaroad.panels;
 
 import com.tuproyecto.cagaroad.GameFrame;
 import com.tuproyecto.cagaroad.GameState;
+import com.tuproyecto.cagaroad.engine.FixedTimestepLoop;
 import com.tuproyecto.cagaroad.gameobjects.ObstacleCar;
 import com.tuproyecto.cagaroad.gameobjects.PlayerCar;
 import com.tuproyecto.cagaroad.gameobjects.Road;
+import com.tuproyecto.cagaroad.input.InputQueue;
+import com.tuproyecto.cagaroad.input.InputState;
+import com.tuproyecto.cagaroad.level.LevelLibrary;
+import com.tuproyecto.cagaroad.perf.PerfMonitor;
+import com.tuproyecto.cagaroad.perf.PerfOverlay;
+import com.tuproyecto.cagaroad.rendering.ActiveRenderer;
+import com.tuproyecto.cagaroad.rendering.HudRenderer;
+import com.tuproyecto.cagaroad.rendering.Palette;
+import com.tuproyecto.cagaroad.replay.InputPlayback;
+import com.tuproyecto.cagaroad.replay.InputRecorder;
+import com.tuproyecto.cagaroad.simulation.PlayerInput;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import com.tuproyecto.cagaroad.simulation.Simulation;
+import com.tuproyecto.cagaroad.simulation.StepResult;
 import com.tuproyecto.cagaroad.utils.GameConstants;
+import com.tuproyecto.cagaroad.utils.GameLogger;
 
 import javax.swing.*;
 import java.awt.*;
@@ -13,52 +29,89 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Random;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 /**
- * GamePanel es el JPanel principal donde se dibuja y se ejecuta la lógica del juego.
+ * GamePanel es el JPanel principal donde se dibuja el juego.
+ * La lógica vive en {@link Simulation}; este panel solo la hace avanzar al ritmo del bucle,
+ * le pasa la entrada del teclado y dibuja su estado.
  * Implementa ActionListener para el Timer del juego y KeyListener para la entrada del teclado.
  */
 public class GamePanel extends JPanel implements ActionListener, KeyListener {
 
+    private static final GameLogger LOG = GameLogger.get("GamePanel");
+
     private GameFrame gameFrame;
     private Timer gameTimer;
+    private FixedTimestepLoop gameLoop;
+    private ActiveRenderer activeRenderer; // null cuando se usa el renderizado pasivo de Swing (paintComponent)
+    private final Consumer<Graphics2D> sceneDrawer = this::drawScene;
+
+    // Métricas por fotograma (actualización, renderizado, jitter del Timer, obstáculos) y su overlay (F3)
+    private final PerfMonitor perf = new PerfMonitor();
+    private final PerfOverlay perfOverlay = new PerfOverlay(perf);
+
+    private Simulation simulation; // Toda la lógica del juego; este panel es solo la vista
+    // Eventos de teclado: keyPressed/keyReleased los encolan y cada paso de la simulación los vacía
+    private final InputQueue inputQueue = new InputQueue(GameConstants.INPUT_QUEUE_CAPACITY);
+    private final InputState inputState = new InputState(perf.getInputHistogram());
+
+    // Grabación y reproducción de partidas (null si no están activadas)
+    private InputRecorder recorder;
+    private InputPlayback playback;
     private PlayerCar playerCar;
     private Road road;
-    private List<ObstacleCar> obstacleCars;
-    private Random random;
-
-    private int score;
-    private long gameStartTime;
-    private long lastScoreTime;
-    private int currentLevelLength;
-    private int currentProgress;
+    private ObstacleCar obstacleView; // Instancia reutilizada para dibujar cada obstáculo de la simulación
+    private final HudRenderer hud = new HudRenderer();
+    private boolean startScreenDirty = true; // La pantalla "Presione E" solo se repinta cuando cambia
 
     private boolean gameStarted = false;
     private int currentLevelNumber;
 
-    private long lastObstacleSpawnTime;
-
     /**
      * Constructor del GamePanel.
      * @param gameFrame La referencia al GameFrame principal para cambiar de estado.
      */
     public GamePanel(GameFrame gameFrame) {
         this.gameFrame = gameFrame;
-        setPreferredSize(new Dimension(GameConstants.GAME_WIDTH, GameConstants.GAME_HEIGHT));
-        setBackground(GameConstants.GRASS_COLOR);
+        setPreferredSize(new Dimension(SimConstants.GAME_WIDTH, SimConstants.GAME_HEIGHT));
+        setBackground(Palette.GRASS_COLOR);
         setFocusable(true);
         setFocusTraversalKeysEnabled(false);
 
-        random = new Random();
+        if (GameConstants.USE_ACTIVE_RENDERING) {
+            activeRenderer = new ActiveRenderer(SimConstants.GAME_WIDTH, SimConstants.GAME_HEIGHT, Palette.GRASS_COLOR);
+            setLayout(new BorderLayout());
+            add(activeRenderer.getCanvas(), BorderLayout.CENTER);
+        }
+
+        simulation = new Simulation(ThreadLocalRandom.current().nextLong(), new LevelLibrary());
+        if (GameConstants.REPLAY_FILE != null) {
+            try {
+                playback = InputPlayback.load(Paths.get(GameConstants.REPLAY_FILE));
+                LOG.info("Reproduciendo {}: nivel {}", GameConstants.REPLAY_FILE, playback.getLevel());
+            } catch (IOException e) {
+                LOG.error("No se pudo cargar la grabación: {}", e.getMessage());
+            }
+        } else if (GameConstants.RECORD_ENABLED) {
+            recorder = new InputRecorder(GameConstants.REPLAY_SNAPSHOT_INTERVAL_TICKS);
+        }
         road = new Road();
-        obstacleCars = new ArrayList<>();
+        obstacleView = new ObstacleCar(0, 0, Palette.OBSTACLE_COLORS[0]);
 
-        gameTimer = new Timer(GameConstants.DELAY, this);
+        if (GameConstants.USE_FIXED_TIMESTEP) {
+            // El Timer solo "despierta" al bucle; el acumulador decide cuántos pasos toca ejecutar.
+            gameLoop = new FixedTimestepLoop(GameConstants.TICK_NANOS, GameConstants.MAX_CATCH_UP_TICKS);
+            gameTimer = new Timer(GameConstants.LOOP_PULSE_MS, this);
+        } else {
+            gameTimer = new Timer(SimConstants.DELAY, this);
+        }
 
         resetGame(1);
     }
@@ -68,34 +121,50 @@ public class GamePanel extends JPanel implements ActionListener, KeyListener {
      * @param level El número del nivel a iniciar (0 para modo infinito).
      */
     public void resetGame(int level) {
+        Color carColor = gameFrame.getPlayerCarColor();
+        long seed = ThreadLocalRandom.current().nextLong();
+        if (playback != null) {
+            // La grabación manda: mismo nivel, misma semilla y mismo coche
+            level = playback.getLevel();
+            seed = playback.getSeed();
+            carColor = new Color(playback.getCarColorRgb());
+            playback.rewind();
+        }
         this.currentLevelNumber = level;
-        playerCar = new PlayerCar(gameFrame.getPlayerCarColor());
-        obstacleCars.clear();
-        score = 0;
-        currentProgress = 0;
+        playerCar = new PlayerCar(carColor);
+        simulation.reset(level, seed);
+        if (recorder != null) {
+            recorder.start(seed, level, carColor.getRGB());
+        }
+        inputQueue.clear();
+        inputState.reset();
         gameStarted = false;
-        lastObstacleSpawnTime = System.currentTimeMillis();
+        startScreenDirty = true;
+    }
 
-        if (level == 0) {
-            currentLevelLength = GameConstants.LEVEL_LENGTHS[0];
-        } else if (level >= 1 && level < GameConstants.LEVEL_LENGTHS.length) {
-            currentLevelLength = GameConstants.LEVEL_LENGTHS[level];
-        } else {
-            System.err.println("Nivel inválido: " + level + ". Usando longitud de Nivel 1.");
-            currentLevelLength = GameConstants.LEVEL_LENGTHS[1];
-        }
+    /**
+     * Genera por adelantado la textura de la carretera (si GameConstants.ROAD_TILE_ENABLED), para que
+     * el primer fotograma de la partida no tenga que hacerlo. Lo usa el calentamiento del splash.
+     * @param configuration La configuración gráfica de la ventana.
+     */
+    public void prepareRendering(GraphicsConfiguration configuration) {
+        road.prepare(configuration);
     }
 
     /**
      * Inicia el bucle de juego si no está ya corriendo. Llamado por GameFrame.
      */
     public void startGame() {
-        System.out.println("GamePanel: startGame() llamado.");
+        LOG.debug("startGame() llamado.");
+        perf.reset();
+        if (GameConstants.PERF_DUMP_ENABLED) {
+            perf.startDumping();
+        }
         if (!gameTimer.isRunning()) {
             gameTimer.start();
         }
         requestFocusInWindow();
-        System.out.println("GamePanel: requestFocusInWindow() llamado en startGame(). GamePanel is focus owner: " + isFocusOwner());
+        LOG.debug("requestFocusInWindow() llamado en startGame(). GamePanel is focus owner: {}", isFocusOwner());
     }
 
     /**
@@ -103,166 +172,213 @@ public class GamePanel extends JPanel implements ActionListener, KeyListener {
      */
     public void stopGame() {
         gameTimer.stop();
+        if (gameLoop != null) {
+            gameLoop.stop();
+            if (gameLoop.getMergedSteps() > 0 || gameLoop.getDroppedSteps() > 0) {
+                LOG.info("pasos={} recuperados={} perdidos={}",
+                        gameLoop.getTotalSteps(), gameLoop.getMergedSteps(), gameLoop.getDroppedSteps());
+            }
+        }
+        if (GameLogger.INFO && perf.getRenderHistogram().getCount() > 0) {
+            LOG.info("renderizado={} {}", activeRenderer != null ? "activo" : "pasivo", perf.summary());
+        }
+        perf.stopDumping();
+        if (activeRenderer != null) {
+            activeRenderer.dispose();
+        }
     }
 
     @Override
     public void actionPerformed(ActionEvent e) {
+        perf.recordPulse(System.nanoTime(), gameTimer.getDelay() * 1_000_000L);
         if (!gameStarted) {
-            repaint();
+            // La pantalla de inicio es estática: con repaint() basta pintarla una vez.
+            // Con BufferStrategy el contenido no se conserva si la ventana se tapa, así que se presenta siempre.
+            if (startScreenDirty || activeRenderer != null) {
+                startScreenDirty = false;
+                renderFrame();
+            }
             return;
         }
 
-        updateGame();
-        repaint();
-    }
-
-    private void updateGame() {
-        road.move(GameConstants.GAME_SPEED_BASE);
-        for (ObstacleCar car : obstacleCars) {
-            car.move(GameConstants.GAME_SPEED_BASE);
-        }
-
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastObstacleSpawnTime >= GameConstants.OBSTACLE_SPAWN_INTERVAL_MS) {
-            generateObstaclesWave();
-            lastObstacleSpawnTime = currentTime;
-        }
-
-        Iterator<ObstacleCar> iterator = obstacleCars.iterator();
-        while (iterator.hasNext()) {
-            ObstacleCar car = iterator.next();
-            if (car.getY() > GameConstants.GAME_HEIGHT) {
-                iterator.remove();
+        if (gameLoop == null) {
+            updateGame();
+            if (gameTimer.isRunning()) {
+                hud.update(simulation.getScore(), getProgressPercentage());
+                renderFrame();
             }
+            return;
         }
 
-        for (ObstacleCar car : obstacleCars) {
-            if (playerCar.checkCollision(car)) {
-                gameTimer.stop();
-                gameFrame.setGameState(GameState.DEFEAT);
-                return;
-            }
+        int steps = gameLoop.advance(System.nanoTime());
+        for (int i = 0; i < steps && gameTimer.isRunning(); i++) {
+            updateGame();
         }
-
-        if (gameStartTime == 0) {
-            gameStartTime = currentTime;
-            lastScoreTime = currentTime;
+        if (!gameTimer.isRunning()) {
+            return;
         }
-        if (currentTime - lastScoreTime >= GameConstants.SCORE_INTERVAL_MS) {
-            score += GameConstants.SCORE_PER_INTERVAL;
-            lastScoreTime = currentTime;
+        if (steps > 0) {
+            hud.update(simulation.getScore(), getProgressPercentage());
+            renderFrame();
         }
+    }
 
-        currentProgress += GameConstants.GAME_SPEED_BASE;
-        if (currentLevelLength != Integer.MAX_VALUE && currentProgress >= currentLevelLength) {
-            gameTimer.stop();
-            gameFrame.setGameState(GameState.VICTORY);
+    /**
+     * @return El progreso del nivel en porcentaje (0..100), o HudRenderer.INFINITE_MODE.
+     */
+    private int getProgressPercentage() {
+        int currentLevelLength = simulation.getCurrentLevelLength();
+        if (currentLevelLength == Integer.MAX_VALUE) {
+            return HudRenderer.INFINITE_MODE;
         }
+        int percentage = (int) ((double) simulation.getCurrentProgress() / currentLevelLength * 100);
+        return Math.min(percentage, 100);
     }
 
-    private void generateObstaclesWave() {
-        int maxLanesToBlock = GameConstants.NUM_LANES - GameConstants.MIN_LANES_FREE_IN_WAVE;
-        if (maxLanesToBlock <= 0) {
+    /**
+     * Presenta un fotograma: en modo activo se dibuja y se muestra ahora mismo;
+     * en modo pasivo se pide un repaint() a Swing.
+     */
+    private void renderFrame() {
+        if (activeRenderer == null) {
+            repaint();
             return;
         }
-        int lanesToBlock = random.nextInt(maxLanesToBlock) + 1;
+        long start = System.nanoTime();
+        if (activeRenderer.render(sceneDrawer)) {
+            perf.recordRender(System.nanoTime() - start);
+        }
+    }
 
-        List<Integer> availableLanes = new ArrayList<>();
-        for (int i = 0; i < GameConstants.NUM_LANES; i++) {
-            availableLanes.add(i);
+    /**
+     * Ejecuta un paso de la simulación con la entrada pendiente y reacciona al resultado.
+     */
+    private void updateGame() {
+        long start = System.nanoTime();
+        long tick = simulation.getTick();
+        PlayerInput input;
+        if (playback != null) {
+            inputQueue.clear(); // Durante la reproducción el teclado no cuenta
+            input = playback.inputForTick(tick);
+        } else {
+            input = inputState.nextInput(inputQueue, start);
         }
-        Collections.shuffle(availableLanes, random);
+        if (recorder != null) {
+            recorder.recordStep(simulation, input);
+        }
+        StepResult result = simulation.step(input);
+        perf.recordUpdate(System.nanoTime() - start);
+        perf.recordObstacleCount(simulation.getObstacleCount());
 
-        for (int i = 0; i < lanesToBlock; i++) {
-            int lane = availableLanes.get(i);
-            int startX = (GameConstants.GAME_WIDTH / 6) + (lane * GameConstants.LANE_WIDTH) + (GameConstants.LANE_WIDTH / 2) - (GameConstants.CAR_WIDTH / 2);
-            obstacleCars.add(new ObstacleCar(startX, -GameConstants.CAR_HEIGHT, getRandomObstacleColor()));
+        if (result != StepResult.RUNNING) {
+            finishReplay();
+        }
+        if (result == StepResult.DEFEAT) {
+            gameTimer.stop();
+            gameFrame.setGameState(GameState.DEFEAT);
+        } else if (result == StepResult.VICTORY) {
+            gameTimer.stop();
+            gameFrame.setGameState(GameState.VICTORY);
         }
     }
 
     /**
-     * Devuelve un color aleatorio para los autos enemigos, eligiendo entre colores básicos.
-     * @return Un objeto Color.
+     * Al terminar la partida guarda la grabación o comprueba que la reproducción coincidió.
      */
-    private Color getRandomObstacleColor() {
-        // Colores que se usarán para los obstáculos geométricos.
-        Color[] colors = {
-                Color.GREEN,
-                Color.BLUE,
-                Color.MAGENTA,
-                Color.YELLOW,
-                Color.CYAN,
-                Color.BLACK,
-                Color.RED
-        };
-        return colors[random.nextInt(colors.length)];
+    private void finishReplay() {
+        if (recorder != null && recorder.isRecording()) {
+            String name = "replay-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".cgr";
+            Path file = Paths.get(GameConstants.REPLAY_DIR, name);
+            try {
+                recorder.finish(file, simulation.getTick(), simulation.getScore(), simulation.getResult());
+                LOG.info("Partida grabada en {} ({} cambios de carril, {} bytes)", file, recorder.getInputCount(), recorder.getLength());
+            } catch (IOException e) {
+                LOG.error("No se pudo guardar la grabación: {}", e.getMessage());
+            }
+        } else if (playback != null) {
+            if (playback.matches(simulation)) {
+                LOG.info("Reproducción exacta: tick {} puntuación {}", simulation.getTick(), simulation.getScore());
+            } else {
+                LOG.warn("La reproducción no coincide con la grabación (tick {} vs {})",
+                        simulation.getTick(), playback.getExpectedFinalTick());
+            }
+        }
     }
 
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
+        if (activeRenderer != null) {
+            return; // El Canvas del renderizado activo cubre todo el panel
+        }
+        long start = System.nanoTime();
+        drawScene((Graphics2D) g);
+        perf.recordRender(System.nanoTime() - start);
+    }
 
+    /**
+     * Dibuja la escena completa (carretera, coches y HUD). Lo usan tanto el camino pasivo
+     * (paintComponent) como el renderizado activo.
+     * @param g2d El objeto Graphics2D usado para dibujar.
+     */
+    private void drawScene(Graphics2D g2d) {
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
 
         if (!gameStarted) {
-            g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.BOLD, 72));
-            drawCenteredString(g2d, "JUGAR", GameConstants.GAME_HEIGHT / 2 - 50);
-            g2d.setFont(new Font("Arial", Font.PLAIN, 24));
-            drawCenteredString(g2d, "Presione E para empezar...", GameConstants.GAME_HEIGHT / 2 + 20);
+            hud.drawStartScreen(g2d);
             return;
         }
 
+        road.setYOffset(simulation.getRoadYOffset());
         road.draw(g2d);
+        playerCar.setLane(simulation.getPlayerLane());
         playerCar.draw(g2d);
 
-        for (ObstacleCar car : obstacleCars) {
-            car.draw(g2d);
-        }
-
-        g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 24));
-        g2d.drawString("Puntaje: " + score, GameConstants.GAME_WIDTH - 200, 30);
-
-        int percentage = 0;
-        if (currentLevelLength != Integer.MAX_VALUE) {
-            percentage = (int) ((double) currentProgress / currentLevelLength * 100);
-            if (percentage > 100) percentage = 100;
-            g2d.drawString(percentage + "%", GameConstants.GAME_WIDTH - 200, 60);
-        } else {
-            g2d.drawString("Modo Infinito", GameConstants.GAME_WIDTH - 200, 60);
+        for (int i = 0; i < simulation.getObstacleCount(); i++) {
+            obstacleView.reset(simulation.getObstacleX(i), simulation.getObstacleY(i),
+                    Palette.OBSTACLE_COLORS[simulation.getObstacleColorIndex(i)]).draw(g2d);
         }
-    }
 
-    private void drawCenteredString(Graphics2D g2d, String text, int y) {
-        FontMetrics metrics = g2d.getFontMetrics();
-        int x = (GameConstants.GAME_WIDTH - metrics.stringWidth(text)) / 2;
-        g2d.drawString(text, x, y);
+        hud.draw(g2d);
+        perfOverlay.draw(g2d);
     }
 
     @Override
     public void keyPressed(KeyEvent e) {
-        System.out.println("GamePanel: Tecla presionada: " + KeyEvent.getKeyText(e.getKeyCode()) + " (KeyCode: " + e.getKeyCode() + ")");
+        if (e.getKeyCode() == KeyEvent.VK_F3) {
+            perfOverlay.toggle(); // Muestra u oculta el overlay de rendimiento
+            if (gameStarted && activeRenderer == null) {
+                repaint();
+            }
+            return;
+        }
         if (!gameStarted) {
             if (e.getKeyCode() == KeyEvent.VK_E) {
-                System.out.println("GamePanel: Tecla 'E' detectada. Iniciando juego.");
+                LOG.debug("Tecla 'E' detectada. Iniciando juego.");
                 gameStarted = true;
-                gameStartTime = System.currentTimeMillis();
-                lastScoreTime = gameStartTime;
-                repaint();
-            }
-        } else {
-            if (e.getKeyCode() == KeyEvent.VK_LEFT) {
-                playerCar.moveLeft();
-            } else if (e.getKeyCode() == KeyEvent.VK_RIGHT) {
-                playerCar.moveRight();
+                inputQueue.clear();
+                inputState.reset();
+                if (gameLoop != null) {
+                    gameLoop.reset(System.nanoTime());
+                }
+                hud.update(simulation.getScore(), getProgressPercentage());
+                renderFrame();
             }
+        } else if (playback != null && (e.getKeyCode() == KeyEvent.VK_PAGE_UP || e.getKeyCode() == KeyEvent.VK_PAGE_DOWN)) {
+            // Salta hacia atrás o adelante en la reproducción partiendo de la instantánea más cercana
+            int direction = e.getKeyCode() == KeyEvent.VK_PAGE_DOWN ? 1 : -1;
+            playback.seek(simulation, simulation.getTick() + direction * (long) GameConstants.REPLAY_SEEK_TICKS);
+            renderFrame();
+        } else if (e.getKeyCode() == KeyEvent.VK_LEFT || e.getKeyCode() == KeyEvent.VK_RIGHT) {
+            inputQueue.offer(e.getKeyCode(), true, e.getWhen()); // Se aplica en el próximo paso de la simulación
         }
     }
 
     @Override
     public void keyReleased(KeyEvent e) {
+        if (gameStarted && (e.getKeyCode() == KeyEvent.VK_LEFT || e.getKeyCode() == KeyEvent.VK_RIGHT)) {
+            inputQueue.offer(e.getKeyCode(), false, e.getWhen());
+        }
     }
 
     @Override
@@ -270,7 +386,14 @@ public class GamePanel extends JPanel implements ActionListener, KeyListener {
     }
 
     public int getScore() {
-        return score;
+        return simulation.getScore();
+    }
+
+    /**
+     * @return La simulación que muestra este panel.
+     */
+    public Simulation getSimulation() {
+        return simulation;
     }
 
     public int getCurrentLevelNumber() {
@@ -2,14 +2,14 @@ package com.tuproyecto.cagaroad.panels;
 
 import com.tuproyecto.cagaroad.GameFrame;
 import com.tuproyecto.cagaroad.GameState;
-import com.tuproyecto.cagaroad.utils.GameConstants;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 // No se necesita java.awt.geom.Rectangle2D directamente para esto,
-// Rectangle es suficiente y ya está importado por AWT.* en GameConstants.
+// Rectangle es suficiente y ya está importado por java.awt.*.
 
 /**
  * Representa la pantalla de selección de niveles del juego.
@@ -56,7 +56,7 @@ public class LevelSelectPanel extends JPanel {
      */
     public LevelSelectPanel(GameFrame gameFrame) {
         this.gameFrame = gameFrame;
-        setPreferredSize(new Dimension(GameConstants.GAME_WIDTH, GameConstants.GAME_HEIGHT));
+        setPreferredSize(new Dimension(SimConstants.GAME_WIDTH, SimConstants.GAME_HEIGHT));
         setLayout(null); // Usamos layout nulo para posicionar manualmente
 
         // Calcular dimensiones y posiciones del título "NIVELES"
@@ -65,13 +65,13 @@ public class LevelSelectPanel extends JPanel {
         String titleText = "NIVELES";
         levelsTitleSignWidth = fmTitle.stringWidth(titleText) + 60;
         levelsTitleSignHeight = fmTitle.getHeight() + 20;
-        levelsTitleSignX = (GameConstants.GAME_WIDTH - levelsTitleSignWidth) / 2;
+        levelsTitleSignX = (SimConstants.GAME_WIDTH - levelsTitleSignWidth) / 2;
         levelsTitleSignY = 50;
 
         // Calcular las áreas de los botones de nivel (para detección de mouse)
         levelButtonAreas = new Rectangle[3];
         int totalLevelsWidth = (3 * LEVEL_BUTTON_NORMAL_WIDTH) + (2 * HORIZONTAL_BUTTON_GAP);
-        int startXLevels = (GameConstants.GAME_WIDTH - totalLevelsWidth) / 2;
+        int startXLevels = (SimConstants.GAME_WIDTH - totalLevelsWidth) / 2;
         int startYLevels = levelsTitleSignY + levelsTitleSignHeight + 100; // Debajo del título
 
         for (int i = 0; i < 3; i++) {
@@ -86,8 +86,8 @@ public class LevelSelectPanel extends JPanel {
         // Calcular el área del botón "Volver al Menú"
         int grassHeight = 50;
         backButtonArea = new Rectangle(
-                (GameConstants.GAME_WIDTH - BACK_BUTTON_WIDTH) / 2,
-                GameConstants.GAME_HEIGHT - grassHeight - BACK_BUTTON_HEIGHT - 30, // Posición arriba del césped
+                (SimConstants.GAME_WIDTH - BACK_BUTTON_WIDTH) / 2,
+                SimConstants.GAME_HEIGHT - grassHeight - BACK_BUTTON_HEIGHT - 30, // Posición arriba del césped
                 BACK_BUTTON_WIDTH,
                 BACK_BUTTON_HEIGHT
         );
@@ -180,11 +180,11 @@ public class LevelSelectPanel extends JPanel {
 
         // Dibujar el fondo de Cielo y Césped
         g2d.setColor(SKY_BLUE);
-        g2d.fillRect(0, 0, GameConstants.GAME_WIDTH, GameConstants.GAME_HEIGHT); // Cielo
+        g2d.fillRect(0, 0, SimConstants.GAME_WIDTH, SimConstants.GAME_HEIGHT); // Cielo
 
         int grassHeight = 50;
         g2d.setColor(GRASS_GREEN);
-        g2d.fillRect(0, GameConstants.GAME_HEIGHT - grassHeight, GameConstants.GAME_WIDTH, grassHeight); // Césped
+        g2d.fillRect(0, SimConstants.GAME_HEIGHT - grassHeight, SimConstants.GAME_WIDTH, grassHeight); // Césped
 
         // --- Dibujar el letrero del título "NIVELES" ---
         g2d.setColor(TITLE_ORANGE);
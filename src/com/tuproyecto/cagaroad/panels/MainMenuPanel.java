@@ -3,7 +3,8 @@ package com.tuproyecto.cagaroad.panels;
 
 import com.tuproyecto.cagaroad.GameFrame;
 import com.tuproyecto.cagaroad.GameState;
-import com.tuproyecto.cagaroad.utils.GameConstants;
+import com.tuproyecto.cagaroad.perf.StartupTimeline;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
 
 import javax.swing.*;
 import java.awt.*;
@@ -23,7 +24,7 @@ public class MainMenuPanel extends JPanel {
     // Colores para el diseño de la señal
     private static final Color SIGN_BROWN = new Color(139, 69, 19); // Marrón de la señal
     private static final Color SKY_BLUE = new Color(135, 206, 235); // Azul cielo
-    private static final Color GRASS_GREEN = new Color(50, 150, 50); // Verde césped (como en GameConstants)
+    private static final Color GRASS_GREEN = new Color(50, 150, 50); // Verde césped (como Palette.GRASS_COLOR)
     private static final Color TITLE_ORANGE = new Color(255, 140, 0); // Color naranja para el título
 
     // Dimensiones y posiciones de los elementos de la señal
@@ -42,7 +43,7 @@ public class MainMenuPanel extends JPanel {
      */
     public MainMenuPanel(GameFrame gameFrame) {
         this.gameFrame = gameFrame;
-        setPreferredSize(new Dimension(GameConstants.GAME_WIDTH, GameConstants.GAME_HEIGHT));
+        setPreferredSize(new Dimension(SimConstants.GAME_WIDTH, SimConstants.GAME_HEIGHT));
         setLayout(null); // Usar layout nulo para posicionar manualmente
 
         // Configuración del Título de la Señal (JLabel)
@@ -56,7 +57,7 @@ public class MainMenuPanel extends JPanel {
         FontMetrics fm = titleLabel.getFontMetrics(titleLabel.getFont());
         titleSignWidth = fm.stringWidth(titleLabel.getText()) + 60; // Ancho del texto + margen
         titleSignHeight = fm.getHeight() + 20; // Alto del texto + margen
-        titleSignX = (GameConstants.GAME_WIDTH - titleSignWidth) / 2; // Centrado horizontalmente
+        titleSignX = (SimConstants.GAME_WIDTH - titleSignWidth) / 2; // Centrado horizontalmente
         titleSignY = 50; // Posición Y del letrero del título
 
         titleLabel.setBounds(titleSignX, titleSignY, titleSignWidth, titleSignHeight);
@@ -66,7 +67,7 @@ public class MainMenuPanel extends JPanel {
         int buttonWidth = 250;
         int buttonHeight = 50;
         int startYButtons = titleSignY + titleSignHeight + 60; // Posición Y inicial para los botones
-        int buttonX = (GameConstants.GAME_WIDTH - buttonWidth) / 2; // Centrado horizontalmente
+        int buttonX = (SimConstants.GAME_WIDTH - buttonWidth) / 2; // Centrado horizontalmente
         int buttonSpacing = 15; // Espacio vertical entre tablones de botones
 
         menuButtonPanels = new ArrayList<>();
@@ -154,11 +155,11 @@ public class MainMenuPanel extends JPanel {
 
         // --- Dibujar el fondo de Cielo y Césped ---
         g2d.setColor(SKY_BLUE);
-        g2d.fillRect(0, 0, GameConstants.GAME_WIDTH, GameConstants.GAME_HEIGHT); // Cielo
+        g2d.fillRect(0, 0, SimConstants.GAME_WIDTH, SimConstants.GAME_HEIGHT); // Cielo
 
         int grassHeight = 50;
         g2d.setColor(GRASS_GREEN);
-        g2d.fillRect(0, GameConstants.GAME_HEIGHT - grassHeight, GameConstants.GAME_WIDTH, grassHeight); // Césped
+        g2d.fillRect(0, SimConstants.GAME_HEIGHT - grassHeight, SimConstants.GAME_WIDTH, grassHeight); // Césped
 
         // --- Dibujar el rectángulo naranja del título ---
         g2d.setColor(TITLE_ORANGE);
@@ -178,7 +179,7 @@ public class MainMenuPanel extends JPanel {
 
             // Posición Y de los postes (desde la parte superior del primer botón hasta el césped)
             int mainPolesY1 = firstButton.getY(); // Inicia desde la parte superior del primer botón
-            int mainPolesHeight = (GameConstants.GAME_HEIGHT - grassHeight) - mainPolesY1; // Altura hasta el césped
+            int mainPolesHeight = (SimConstants.GAME_HEIGHT - grassHeight) - mainPolesY1; // Altura hasta el césped
 
             g2d.fillRect(mainPolesX1, mainPolesY1, SIGN_POLE_WIDTH, mainPolesHeight);
             g2d.fillRect(mainPolesX2, mainPolesY1, SIGN_POLE_WIDTH, mainPolesHeight);
@@ -202,4 +203,14 @@ public class MainMenuPanel extends JPanel {
 
         // Los JLabels y JPanels de botones se dibujan automáticamente por Swing.
     }
+
+    /**
+     * Dibuja el panel con sus botones; la primera vez marca el menú como interactivo.
+     * @param g El objeto Graphics usado para dibujar.
+     */
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+        StartupTimeline.mark(StartupTimeline.Milestone.INTERACTIVE_MENU);
+    }
 }
\ No newline at end of file
@@ -2,25 +2,40 @@ package com.tuproyecto.cagaroad.panels;
 
 import com.tuproyecto.cagaroad.GameFrame;
 import com.tuproyecto.cagaroad.GameState;
-import com.tuproyecto.cagaroad.utils.AssetLoader;
+import com.tuproyecto.cagaroad.engine.WarmUp;
+import com.tuproyecto.cagaroad.perf.StartupTimeline;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import com.tuproyecto.cagaroad.utils.AssetManager;
 import com.tuproyecto.cagaroad.utils.GameConstants;
+import com.tuproyecto.cagaroad.utils.GameLogger;
 
 import javax.swing.*;
 import java.awt.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Representa la pantalla de presentación (splash screen) del juego.
- * Muestra información del proyecto y pasa automáticamente al menú principal después de un tiempo.
+ * Muestra información del proyecto mientras el juego se calienta (ver {@link WarmUp}) con una barra
+ * de progreso real, y pasa al menú principal en cuanto termina, pero no antes de
+ * GameConstants.SPLASH_MIN_DISPLAY_MS.
  */
-public class SplashPanel extends JPanel {
+public class SplashPanel extends JPanel implements WarmUp.Listener {
+
+    private static final GameLogger LOG = GameLogger.get("SplashPanel");
 
     private GameFrame gameFrame;
-    private BufferedImage utpLogo; // Imagen del logo de la UTP
-    private BufferedImage fiscLogo; // Imagen del logo de la FISC
+    private BufferedImage utpLogo; // Imagen del logo de la UTP (null mientras se carga)
+    private BufferedImage fiscLogo; // Imagen del logo de la FISC (null mientras se carga)
+    private boolean utpLogoFailed;
+    private boolean fiscLogoFailed;
+
+    // Progreso del calentamiento (solo se usa en el EDT)
+    private boolean firstFrameSeen;
+    private long firstFrameNanos;
+    private int warmUpDone;
+    private int warmUpTotal = 1;
+    private String warmUpStep = "Preparando...";
 
     // Dimensiones deseadas para los logos
     private static final int LOGO_WIDTH = 120;
@@ -31,6 +46,12 @@ public class SplashPanel extends JPanel {
     private static final int MAIN_TITLE_FONT_SIZE = 24; // <-- (AJUSTADO) Reducido de 28 a 24
     private static final int PROJECT_TITLE_FONT_SIZE = 32;
     private static final int INFO_FONT_SIZE = 18;
+    private static final int PROGRESS_FONT_SIZE = 14;
+
+    // Barra de progreso del calentamiento
+    private static final int PROGRESS_BAR_WIDTH = 400;
+    private static final int PROGRESS_BAR_HEIGHT = 12;
+    private static final int PROGRESS_BAR_Y = SimConstants.GAME_HEIGHT - 90;
 
     /**
      * Constructor del SplashPanel.
@@ -38,31 +59,65 @@ public class SplashPanel extends JPanel {
      */
     public SplashPanel(GameFrame gameFrame) {
         this.gameFrame = gameFrame;
-        setPreferredSize(new Dimension(GameConstants.GAME_WIDTH, GameConstants.GAME_HEIGHT));
+        setPreferredSize(new Dimension(SimConstants.GAME_WIDTH, SimConstants.GAME_HEIGHT));
         setBackground(new Color(0, 51, 102)); // Un color azul oscuro para el fondo
 
-        // Intenta cargar los logos.
-        try {
-            utpLogo = AssetLoader.loadImage("utp_logo.png");
-            fiscLogo = AssetLoader.loadImage("fisc_logo.png");
-        } catch (IOException e) {
-            System.err.println("Error al cargar logos: " + e.getMessage());
-            utpLogo = null;
-            fiscLogo = null;
-        }
+        // Pide los logos sin bloquear el EDT: se dibujan en cuanto terminan de decodificarse.
+        // Main ya empezó a cargarlos antes de crear la ventana.
+        CompletableFuture<BufferedImage> utpFuture = AssetManager.load("utp_logo.png");
+        CompletableFuture<BufferedImage> fiscFuture = AssetManager.load("fisc_logo.png");
+        utpFuture.whenComplete((image, error) -> SwingUtilities.invokeLater(() -> {
+            utpLogo = image;
+            utpLogoFailed = error != null;
+            logoLoaded(error);
+        }));
+        fiscFuture.whenComplete((image, error) -> SwingUtilities.invokeLater(() -> {
+            fiscLogo = image;
+            fiscLogoFailed = error != null;
+            logoLoaded(error);
+        }));
+    }
 
-        // Configura un Timer para cambiar automáticamente al menú principal después de 10 segundos
-        Timer timer = new Timer(10000, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
+    /**
+     * Avance del calentamiento; actualiza la barra de progreso.
+     */
+    @Override
+    public void onProgress(int done, int total, String step) {
+        warmUpDone = done;
+        warmUpTotal = total;
+        warmUpStep = step;
+        repaint();
+    }
+
+    /**
+     * El calentamiento terminó: pasa al menú principal en cuanto se cumpla el tiempo mínimo.
+     */
+    @Override
+    public void onFinished() {
+        warmUpDone = warmUpTotal;
+        warmUpStep = "Listo";
+        repaint();
+
+        long shownMillis = (System.nanoTime() - firstFrameNanos) / 1_000_000;
+        long remainingMillis = Math.max(0, GameConstants.SPLASH_MIN_DISPLAY_MS - shownMillis);
+        Timer timer = new Timer((int) remainingMillis, e -> {
+            if (gameFrame.getCurrentGameState() == GameState.SPLASH) {
                 gameFrame.setGameState(GameState.MENU);
-                ((Timer)e.getSource()).stop();
             }
         });
         timer.setRepeats(false);
         timer.start();
     }
 
+    // Se llama en el EDT cuando termina la carga de un logo, con éxito o no
+    private void logoLoaded(Throwable error) {
+        if (error != null) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            LOG.error("Error al cargar logos: {}", cause.getMessage());
+        }
+        repaint();
+    }
+
     /**
      * Dibuja los componentes del panel: texto del proyecto y logos.
      * @param g El objeto Graphics usado para dibujar.
@@ -71,6 +126,31 @@ public class SplashPanel extends JPanel {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g;
+        paintContents(g2d);
+
+        // Tras el primer fotograma del juego se construyen los demás paneles en ratos libres del EDT
+        // y empieza el calentamiento en segundo plano. El hito de la línea de tiempo es solo para
+        // el registro: no depende de que StartupTimeline se haya iniciado.
+        if (!firstFrameSeen) {
+            firstFrameSeen = true;
+            StartupTimeline.mark(StartupTimeline.Milestone.FIRST_FRAME);
+            firstFrameNanos = System.nanoTime();
+            gameFrame.prebuildPanels();
+            GraphicsConfiguration configuration = getGraphicsConfiguration();
+            new WarmUp(configuration, () -> gameFrame.getGamePanel().prepareRendering(configuration)).start(this);
+        }
+    }
+
+    // Barra de progreso centrada con el nombre del paso actual encima
+    private void drawProgress(Graphics2D g2d) {
+        int x = (SimConstants.GAME_WIDTH - PROGRESS_BAR_WIDTH) / 2;
+        g2d.setFont(new Font("Arial", Font.PLAIN, PROGRESS_FONT_SIZE));
+        drawCenteredString(g2d, warmUpStep, PROGRESS_BAR_Y - 8);
+        g2d.fillRect(x, PROGRESS_BAR_Y, PROGRESS_BAR_WIDTH * warmUpDone / warmUpTotal, PROGRESS_BAR_HEIGHT);
+        g2d.drawRect(x, PROGRESS_BAR_Y, PROGRESS_BAR_WIDTH, PROGRESS_BAR_HEIGHT);
+    }
+
+    private void paintContents(Graphics2D g2d) {
 
         g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
@@ -78,18 +158,18 @@ public class SplashPanel extends JPanel {
 
         // --- Dibujar los logos primero, en la parte superior ---
         if (utpLogo != null) {
-            int utpLogoX = GameConstants.GAME_WIDTH / 4 - LOGO_WIDTH / 2;
+            int utpLogoX = SimConstants.GAME_WIDTH / 4 - LOGO_WIDTH / 2;
             g2d.drawImage(utpLogo, utpLogoX, LOGO_TOP_MARGIN, LOGO_WIDTH, LOGO_HEIGHT, null);
-        } else {
+        } else if (utpLogoFailed) {
             g2d.setFont(new Font("Arial", Font.PLAIN, INFO_FONT_SIZE));
-            g2d.drawString("UTP Logo Missing", GameConstants.GAME_WIDTH / 4 - 50, LOGO_TOP_MARGIN + LOGO_HEIGHT / 2);
+            g2d.drawString("UTP Logo Missing", SimConstants.GAME_WIDTH / 4 - 50, LOGO_TOP_MARGIN + LOGO_HEIGHT / 2);
         }
         if (fiscLogo != null) {
-            int fiscLogoX = 3 * GameConstants.GAME_WIDTH / 4 - LOGO_WIDTH / 2;
+            int fiscLogoX = 3 * SimConstants.GAME_WIDTH / 4 - LOGO_WIDTH / 2;
             g2d.drawImage(fiscLogo, fiscLogoX, LOGO_TOP_MARGIN, LOGO_WIDTH, LOGO_HEIGHT, null);
-        } else {
+        } else if (fiscLogoFailed) {
             g2d.setFont(new Font("Arial", Font.PLAIN, INFO_FONT_SIZE));
-            g2d.drawString("FISC Logo Missing", 3 * GameConstants.GAME_WIDTH / 4 - 50, LOGO_TOP_MARGIN + LOGO_HEIGHT / 2);
+            g2d.drawString("FISC Logo Missing", 3 * SimConstants.GAME_WIDTH / 4 - 50, LOGO_TOP_MARGIN + LOGO_HEIGHT / 2);
         }
 
         // --- Dibujar los títulos principales (debajo de los logos) ---
@@ -119,6 +199,8 @@ public class SplashPanel extends JPanel {
 
         drawCenteredString(g2d, "Grupo: 1SF125", currentY);
         currentY += g2d.getFontMetrics().getHeight();
+
+        drawProgress(g2d);
     }
 
     /**
@@ -129,7 +211,7 @@ public class SplashPanel extends JPanel {
      */
     private void drawCenteredString(Graphics2D g2d, String text, int y) {
         FontMetrics metrics = g2d.getFontMetrics();
-        int x = (GameConstants.GAME_WIDTH - metrics.stringWidth(text)) / 2;
+        int x = (SimConstants.GAME_WIDTH - metrics.stringWidth(text)) / 2;
         g2d.drawString(text, x, y);
     }
 }
\ No newline at end of file
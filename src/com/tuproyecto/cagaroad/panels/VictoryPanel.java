@@ -2,7 +2,7 @@ package com.tuproyecto.cagaroad.panels;
 
 import com.tuproyecto.cagaroad.GameFrame;
 import com.tuproyecto.cagaroad.GameState;
-import com.tuproyecto.cagaroad.utils.GameConstants;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
 
 import javax.swing.*;
 import java.awt.*;
@@ -23,7 +23,7 @@ public class VictoryPanel extends JPanel {
 
     public VictoryPanel(GameFrame gameFrame) {
         this.gameFrame = gameFrame;
-        setPreferredSize(new Dimension(GameConstants.GAME_WIDTH, GameConstants.GAME_HEIGHT));
+        setPreferredSize(new Dimension(SimConstants.GAME_WIDTH, SimConstants.GAME_HEIGHT));
         setBackground(new Color(50, 100, 50));
         setLayout(new GridBagLayout());
 
@@ -89,8 +89,8 @@ public class VictoryPanel extends JPanel {
         // Dibujar el "baño"
         int bathroomWidth = 100;
         int bathroomHeight = 150;
-        int bathroomX = GameConstants.GAME_WIDTH / 2 - bathroomWidth / 2;
-        int bathroomY = GameConstants.GAME_HEIGHT - bathroomHeight - 50;
+        int bathroomX = SimConstants.GAME_WIDTH / 2 - bathroomWidth / 2;
+        int bathroomY = SimConstants.GAME_HEIGHT - bathroomHeight - 50;
 
         g2d.setColor(new Color(139, 69, 19));
         g2d.fillRect(bathroomX, bathroomY, bathroomWidth, bathroomHeight);
@@ -116,20 +116,20 @@ public class VictoryPanel extends JPanel {
      */
     private void drawGenericCar(Graphics2D g2d, Color bodyColor, int x, int y) {
         g2d.setColor(bodyColor);
-        g2d.fillRect(x, y, GameConstants.CAR_WIDTH, GameConstants.CAR_HEIGHT);
+        g2d.fillRect(x, y, SimConstants.CAR_WIDTH, SimConstants.CAR_HEIGHT);
 
         g2d.setColor(Color.BLACK);
         g2d.setStroke(new BasicStroke(2));
-        g2d.drawRect(x, y, GameConstants.CAR_WIDTH, GameConstants.CAR_HEIGHT);
+        g2d.drawRect(x, y, SimConstants.CAR_WIDTH, SimConstants.CAR_HEIGHT);
 
         g2d.setColor(new Color(135, 206, 235));
-        g2d.fillRect(x + 5, y + 10, GameConstants.CAR_WIDTH - 10, GameConstants.CAR_HEIGHT / 4);
-        g2d.fillRect(x + 5, y + GameConstants.CAR_HEIGHT - GameConstants.CAR_HEIGHT / 4 - 10, GameConstants.CAR_WIDTH - 10, GameConstants.CAR_HEIGHT / 4);
+        g2d.fillRect(x + 5, y + 10, SimConstants.CAR_WIDTH - 10, SimConstants.CAR_HEIGHT / 4);
+        g2d.fillRect(x + 5, y + SimConstants.CAR_HEIGHT - SimConstants.CAR_HEIGHT / 4 - 10, SimConstants.CAR_WIDTH - 10, SimConstants.CAR_HEIGHT / 4);
 
         g2d.setColor(Color.BLACK);
         g2d.fillRect(x - 5, y + 10, 10, 20);
-        g2d.fillRect(x + GameConstants.CAR_WIDTH - 5, y + 10, 10, 20);
-        g2d.fillRect(x - 5, y + GameConstants.CAR_HEIGHT - 30, 10, 20);
-        g2d.fillRect(x + GameConstants.CAR_WIDTH - 5, y + GameConstants.CAR_HEIGHT - 30, 10, 20);
+        g2d.fillRect(x + SimConstants.CAR_WIDTH - 5, y + 10, 10, 20);
+        g2d.fillRect(x - 5, y + SimConstants.CAR_HEIGHT - 30, 10, 20);
+        g2d.fillRect(x + SimConstants.CAR_WIDTH - 5, y + SimConstants.CAR_HEIGHT - 30, 10, 20);
     }
 }
\ No newline at end of file
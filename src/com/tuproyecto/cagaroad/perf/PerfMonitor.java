@@ -0,0 +1,173 @@
+package com.tuproyecto.cagaroad.perf;
+
+import com.tuproyecto.cagaroad.utils.GameConstants;
+import com.tuproyecto.cagaroad.utils.GameLogger;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instrumentación por fotograma del juego: tiempo de cada paso de la simulación, tiempo de
+ * renderizado, variación (jitter) entre pulsos del Timer, cantidad de obstáculos vivos y
+ * latencia de la entrada.
+ * Registrar una muestra no bloquea ni asigna memoria. Opcionalmente vuelca los percentiles
+ * cada cierto tiempo a un CSV en GameConstants.PERF_DUMP_DIR desde un hilo en segundo plano,
+ * para analizar sesiones largas del Modo Infinito después de jugarlas.
+ */
+public class PerfMonitor {
+
+    private static final GameLogger LOG = GameLogger.get("PerfMonitor");
+
+    private final LatencyHistogram updateNanos = new LatencyHistogram("update_ns");
+    private final LatencyHistogram renderNanos = new LatencyHistogram("render_ns");
+    private final LatencyHistogram jitterNanos = new LatencyHistogram("jitter_ns");
+    private final LatencyHistogram obstacleCount = new LatencyHistogram("obstacles");
+    private final LatencyHistogram inputNanos = new LatencyHistogram("input_ns");
+    private final LatencyHistogram[] histograms = {updateNanos, renderNanos, jitterNanos, obstacleCount, inputNanos};
+
+    private long lastPulseTime;
+
+    private ScheduledExecutorService dumpExecutor;
+    private ScheduledFuture<?> dumpTask;
+    private Path dumpFile;
+
+    public void recordUpdate(long nanos) {
+        updateNanos.record(nanos);
+    }
+
+    public void recordRender(long nanos) {
+        renderNanos.record(nanos);
+    }
+
+    public void recordObstacleCount(int count) {
+        obstacleCount.record(count);
+    }
+
+    /**
+     * Registra la llegada de un pulso del Timer y guarda cuánto se desvió del periodo esperado.
+     * @param now El instante actual según System.nanoTime().
+     * @param expectedPeriodNanos El periodo configurado del Timer.
+     */
+    public void recordPulse(long now, long expectedPeriodNanos) {
+        if (lastPulseTime != 0) {
+            jitterNanos.record(Math.abs((now - lastPulseTime) - expectedPeriodNanos));
+        }
+        lastPulseTime = now;
+    }
+
+    /**
+     * Vacía todas las métricas. Se llama al empezar cada partida.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        lastPulseTime = 0;
+    }
+
+    public LatencyHistogram getUpdateHistogram() {
+        return updateNanos;
+    }
+
+    public LatencyHistogram getRenderHistogram() {
+        return renderNanos;
+    }
+
+    public LatencyHistogram getJitterHistogram() {
+        return jitterNanos;
+    }
+
+    public LatencyHistogram getObstacleHistogram() {
+        return obstacleCount;
+    }
+
+    /**
+     * @return El histograma de latencia entre un evento de teclado y el paso que aplicó su movimiento.
+     */
+    public LatencyHistogram getInputHistogram() {
+        return inputNanos;
+    }
+
+    /**
+     * @return Una línea con p50/p99/max de cada métrica (para la consola).
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        for (LatencyHistogram histogram : histograms) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(histogram.getName())
+                    .append("[p50=").append(histogram.getPercentile(50))
+                    .append(" p99=").append(histogram.getPercentile(99))
+                    .append(" max=").append(histogram.getMax())
+                    .append(" n=").append(histogram.getCount())
+                    .append(']');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Empieza a volcar las métricas periódicamente a un archivo CSV nuevo.
+     */
+    public synchronized void startDumping() {
+        if (dumpTask != null) {
+            return;
+        }
+        if (dumpExecutor == null) {
+            dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cagaroad-perf-dump");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        dumpFile = Paths.get(GameConstants.PERF_DUMP_DIR, "perf-" + timestamp + ".csv");
+        dumpTask = dumpExecutor.scheduleAtFixedRate(this::dump,
+                GameConstants.PERF_DUMP_INTERVAL_MS, GameConstants.PERF_DUMP_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Deja de volcar las métricas, escribiendo antes un último volcado.
+     */
+    public synchronized void stopDumping() {
+        if (dumpTask == null) {
+            return;
+        }
+        dumpTask.cancel(false);
+        dumpTask = null;
+        dumpExecutor.execute(this::dump);
+    }
+
+    private void dump() {
+        Path file = dumpFile;
+        try {
+            Files.createDirectories(file.getParent());
+            boolean newFile = !Files.exists(file);
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+                if (newFile) {
+                    out.println("timestamp_ms,metric,count,p50,p99,max");
+                }
+                long now = System.currentTimeMillis();
+                for (LatencyHistogram histogram : histograms) {
+                    out.println(now + "," + histogram.getName() + "," + histogram.getCount() + ","
+                            + histogram.getPercentile(50) + "," + histogram.getPercentile(99) + "," + histogram.getMax());
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("no se pudo escribir {}: {}", file, e.getMessage());
+        }
+    }
+}
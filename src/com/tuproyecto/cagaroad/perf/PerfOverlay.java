@@ -0,0 +1,70 @@
+package com.tuproyecto.cagaroad.perf;
+
+import java.awt.*;
+
+/**
+ * Overlay de rendimiento que se dibuja encima del juego (se activa con F3).
+ * Muestra p50/p99/max de cada métrica del PerfMonitor. Los textos se recalculan
+ * como mucho cada REFRESH_INTERVAL_NANOS para no generar cadenas en cada fotograma.
+ */
+public class PerfOverlay {
+
+    private static final long REFRESH_INTERVAL_NANOS = 500_000_000L;
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color BACKGROUND = new Color(0, 0, 0, 160);
+    private static final int X = 10;
+    private static final int Y = 10;
+    private static final int LINE_HEIGHT = 15;
+
+    private final PerfMonitor monitor;
+    private final String[] lines = new String[5];
+    private long lastRefresh;
+    private boolean visible;
+
+    public PerfOverlay(PerfMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    public void toggle() {
+        visible = !visible;
+        lastRefresh = 0;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Dibuja el overlay si está visible.
+     * @param g2d El objeto Graphics2D usado para dibujar.
+     */
+    public void draw(Graphics2D g2d) {
+        if (!visible) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastRefresh == 0 || now - lastRefresh >= REFRESH_INTERVAL_NANOS) {
+            lines[0] = formatNanos("update", monitor.getUpdateHistogram());
+            lines[1] = formatNanos("render", monitor.getRenderHistogram());
+            lines[2] = formatNanos("jitter", monitor.getJitterHistogram());
+            lines[3] = formatNanos("input", monitor.getInputHistogram());
+            LatencyHistogram obstacles = monitor.getObstacleHistogram();
+            lines[4] = String.format("obst    p50 %6d  p99 %6d  max %6d",
+                    obstacles.getPercentile(50), obstacles.getPercentile(99), obstacles.getMax());
+            lastRefresh = now;
+        }
+
+        g2d.setColor(BACKGROUND);
+        g2d.fillRect(X - 5, Y - 5, 330, lines.length * LINE_HEIGHT + 10);
+        g2d.setFont(FONT);
+        g2d.setColor(Color.WHITE);
+        for (int i = 0; i < lines.length; i++) {
+            g2d.drawString(lines[i], X, Y + (i + 1) * LINE_HEIGHT - 3);
+        }
+    }
+
+    private static String formatNanos(String label, LatencyHistogram histogram) {
+        return String.format("%-7s p50 %6.2f  p99 %6.2f  max %6.2f ms", label,
+                histogram.getPercentile(50) / 1e6, histogram.getPercentile(99) / 1e6, histogram.getMax() / 1e6);
+    }
+}
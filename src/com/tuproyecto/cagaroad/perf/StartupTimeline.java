@@ -0,0 +1,80 @@
+package com.tuproyecto.cagaroad.perf;
+
+import com.tuproyecto.cagaroad.utils.GameLogger;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Línea de tiempo del arranque del juego.
+ * Guarda cuándo ocurre por primera vez cada hito (desde la entrada a main) y lo registra en el log,
+ * para que un arranque más lento se note en cuanto aparece. Al llegar al menú interactivo se
+ * escribe un resumen con el tiempo hasta el primer fotograma y hasta el menú.
+ */
+public final class StartupTimeline {
+
+    private static final GameLogger LOG = GameLogger.get("Startup");
+
+    public enum Milestone {
+        MAIN("main"),
+        FRAME_BUILT("ventana construida"),
+        FIRST_FRAME("primer fotograma"),
+        INTERACTIVE_MENU("menú interactivo");
+
+        private final String description;
+
+        Milestone(String description) {
+            this.description = description;
+        }
+    }
+
+    private static final long[] marks = new long[Milestone.values().length]; // ns desde main; -1 = pendiente
+    private static long mainNanos;
+    private static long jvmMillisBeforeMain;
+
+    static {
+        Arrays.fill(marks, -1);
+    }
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Marca la entrada a main. Debe ser lo primero que haga Main.
+     */
+    public static synchronized void start() {
+        mainNanos = System.nanoTime();
+        jvmMillisBeforeMain = ManagementFactory.getRuntimeMXBean().getUptime();
+        marks[Milestone.MAIN.ordinal()] = 0;
+    }
+
+    /**
+     * Registra un hito; solo cuenta la primera vez que ocurre.
+     * @param milestone El hito alcanzado.
+     * @return true si se registró; false si ya estaba o si no se llamó a start(). Es solo para
+     *         medir: no sirve para decidir si hacer algo, porque sin start() nunca es true.
+     */
+    public static synchronized boolean mark(Milestone milestone) {
+        if (marks[milestone.ordinal()] >= 0 || marks[Milestone.MAIN.ordinal()] < 0) {
+            return false;
+        }
+        long elapsed = System.nanoTime() - mainNanos;
+        marks[milestone.ordinal()] = elapsed;
+        LOG.debug("{}: {} ms", milestone.description, elapsed / 1_000_000);
+
+        if (milestone == Milestone.INTERACTIVE_MENU) {
+            LOG.info("Arranque: primer fotograma {} ms, menú interactivo {} ms (JVM {} ms antes de main)",
+                    getMillis(Milestone.FIRST_FRAME), elapsed / 1_000_000, jvmMillisBeforeMain);
+        }
+        return true;
+    }
+
+    /**
+     * @param milestone El hito a consultar.
+     * @return Los milisegundos desde la entrada a main hasta el hito, o -1 si aún no ocurrió.
+     */
+    public static synchronized long getMillis(Milestone milestone) {
+        long nanos = marks[milestone.ordinal()];
+        return nanos < 0 ? -1 : nanos / 1_000_000;
+    }
+}
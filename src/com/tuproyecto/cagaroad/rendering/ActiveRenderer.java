@@ -0,0 +1,90 @@
+package com.tuproyecto.cagaroad.rendering;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.function.Consumer;
+
+/**
+ * Backend de renderizado activo: dibuja la escena en un Canvas con BufferStrategy (page flipping)
+ * en el momento que decide el bucle del juego, en lugar de esperar a que Swing atienda un repaint().
+ * Gestiona la pérdida y restauración de las superficies de vídeo.
+ */
+public class ActiveRenderer {
+
+    private static final int NUM_BUFFERS = 2; // Doble búfer: uno en pantalla y otro de trabajo
+
+    private final Canvas canvas;
+    private BufferStrategy strategy;
+
+    /**
+     * Constructor del ActiveRenderer.
+     * @param width Ancho del área de dibujo.
+     * @param height Alto del área de dibujo.
+     * @param background Color con el que se limpia cada fotograma.
+     */
+    public ActiveRenderer(int width, int height, Color background) {
+        canvas = new Canvas();
+        canvas.setPreferredSize(new Dimension(width, height));
+        canvas.setBackground(background);
+        canvas.setIgnoreRepaint(true); // Swing/AWT no debe pintar este Canvas por su cuenta
+        canvas.setFocusable(false);    // El foco del teclado sigue en el panel del juego
+    }
+
+    /**
+     * @return El Canvas que debe añadirse a la jerarquía de componentes.
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Dibuja un fotograma completo y lo muestra en pantalla.
+     * @param scene La función que dibuja la escena sobre el Graphics2D del búfer de trabajo.
+     * @return true si el fotograma llegó a la pantalla, false si el Canvas aún no es visible.
+     */
+    public boolean render(Consumer<Graphics2D> scene) {
+        if (!canvas.isDisplayable() || !canvas.isShowing() || canvas.getWidth() <= 0 || canvas.getHeight() <= 0) {
+            return false;
+        }
+
+        try {
+            if (strategy == null) {
+                canvas.createBufferStrategy(NUM_BUFFERS);
+                strategy = canvas.getBufferStrategy();
+            }
+
+            // Bucle estándar de BufferStrategy: se repite el dibujo si la superficie se restauró
+            // mientras se pintaba, y se repite el show() si el contenido se perdió.
+            do {
+                do {
+                    Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                    try {
+                        g2d.setColor(canvas.getBackground());
+                        g2d.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+                        scene.accept(g2d);
+                    } finally {
+                        g2d.dispose();
+                    }
+                } while (strategy.contentsRestored());
+                strategy.show();
+            } while (strategy.contentsLost());
+        } catch (IllegalStateException e) {
+            // El peer del Canvas cambió (por ejemplo, se ocultó la tarjeta); se recrea en el próximo fotograma.
+            strategy = null;
+            return false;
+        }
+
+        Toolkit.getDefaultToolkit().sync();
+        return true;
+    }
+
+    /**
+     * Libera los búferes de vídeo. Se recrean automáticamente en el próximo render().
+     */
+    public void dispose() {
+        if (strategy != null) {
+            strategy.dispose();
+            strategy = null;
+        }
+    }
+}
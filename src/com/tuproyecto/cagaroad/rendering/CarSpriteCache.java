@@ -0,0 +1,113 @@
+package com.tuproyecto.cagaroad.rendering;
+
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caché de sprites de coches compartida por PlayerCar, ObstacleCar, CustomizePanel y DefeatPanel.
+ * Cada color se dibuja con formas geométricas una sola vez, la primera vez que se pide, en una
+ * imagen translúcida compatible con la pantalla; después cada coche es un único drawImage().
+ * Si cambia la configuración gráfica (por ejemplo, la ventana pasa a otro monitor) la caché se vacía.
+ */
+public final class CarSpriteCache {
+
+    private static final Color WINDOW_COLOR = new Color(135, 206, 235); // Azul cielo para ventanas
+    private static final BasicStroke BORDER_STROKE = new BasicStroke(2); // Borde más grueso
+
+    // Las ruedas sobresalen 5 px a cada lado y el borde 1 px; se deja ese margen alrededor del coche
+    private static final int PADDING = 5;
+    private static final int SPRITE_WIDTH = SimConstants.CAR_WIDTH + 2 * PADDING;
+    private static final int SPRITE_HEIGHT = SimConstants.CAR_HEIGHT + 2 * PADDING;
+
+    private static final Map<Color, BufferedImage> sprites = new HashMap<>();
+    private static GraphicsConfiguration spritesConfiguration;
+
+    private CarSpriteCache() {
+    }
+
+    /**
+     * Dibuja un coche usando el sprite en caché de su color.
+     * @param g2d El objeto Graphics2D usado para dibujar.
+     * @param bodyColor El color principal del cuerpo del coche.
+     * @param x La coordenada X de la esquina superior izquierda del coche.
+     * @param y La coordenada Y de la esquina superior izquierda del coche.
+     */
+    public static void drawCar(Graphics2D g2d, Color bodyColor, int x, int y) {
+        BufferedImage sprite = getSprite(g2d.getDeviceConfiguration(), bodyColor);
+        g2d.drawImage(sprite, x - PADDING, y - PADDING, null);
+    }
+
+    /**
+     * Devuelve el sprite de un color, creándolo si todavía no existe para esta configuración gráfica.
+     * @param configuration La configuración gráfica del destino (puede ser null).
+     * @param bodyColor El color del coche.
+     * @return La imagen del coche, con un margen de PADDING píxeles alrededor.
+     */
+    public static synchronized BufferedImage getSprite(GraphicsConfiguration configuration, Color bodyColor) {
+        if (configuration != spritesConfiguration) {
+            sprites.clear();
+            spritesConfiguration = configuration;
+        }
+        BufferedImage sprite = sprites.get(bodyColor);
+        if (sprite == null) {
+            sprite = renderSprite(configuration, bodyColor);
+            sprites.put(bodyColor, sprite);
+        }
+        return sprite;
+    }
+
+    /**
+     * Vacía la caché; los sprites se vuelven a crear cuando se pidan.
+     */
+    public static synchronized void invalidate() {
+        sprites.clear();
+        spritesConfiguration = null;
+    }
+
+    private static BufferedImage renderSprite(GraphicsConfiguration configuration, Color bodyColor) {
+        BufferedImage sprite = configuration != null
+                ? configuration.createCompatibleImage(SPRITE_WIDTH, SPRITE_HEIGHT, Transparency.TRANSLUCENT)
+                : new BufferedImage(SPRITE_WIDTH, SPRITE_HEIGHT, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2d = sprite.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            paintCar(g2d, bodyColor, PADDING, PADDING);
+        } finally {
+            g2d.dispose();
+        }
+        return sprite;
+    }
+
+    /**
+     * Dibuja un coche con formas geométricas (el modelo original, usado para crear los sprites).
+     * @param g2d El objeto Graphics2D usado para dibujar.
+     * @param bodyColor El color principal del cuerpo del coche.
+     * @param x La coordenada X de la esquina superior izquierda del coche.
+     * @param y La coordenada Y de la esquina superior izquierda del coche.
+     */
+    public static void paintCar(Graphics2D g2d, Color bodyColor, int x, int y) {
+        g2d.setColor(bodyColor);
+        g2d.fillRect(x, y, SimConstants.CAR_WIDTH, SimConstants.CAR_HEIGHT); // Cuerpo del coche
+
+        g2d.setColor(Color.BLACK);
+        g2d.setStroke(BORDER_STROKE);
+        g2d.drawRect(x, y, SimConstants.CAR_WIDTH, SimConstants.CAR_HEIGHT); // Borde del cuerpo
+
+        // Ventanas
+        g2d.setColor(WINDOW_COLOR);
+        g2d.fillRect(x + 5, y + 10, SimConstants.CAR_WIDTH - 10, SimConstants.CAR_HEIGHT / 4); // Ventana frontal
+        g2d.fillRect(x + 5, y + SimConstants.CAR_HEIGHT - SimConstants.CAR_HEIGHT / 4 - 10, SimConstants.CAR_WIDTH - 10, SimConstants.CAR_HEIGHT / 4); // Ventana trasera
+
+        // Ruedas
+        g2d.setColor(Color.BLACK);
+        g2d.fillRect(x - 5, y + 10, 10, 20); // Rueda delantera izquierda
+        g2d.fillRect(x + SimConstants.CAR_WIDTH - 5, y + 10, 10, 20); // Rueda delantera derecha
+        g2d.fillRect(x - 5, y + SimConstants.CAR_HEIGHT - 30, 10, 20); // Rueda trasera izquierda
+        g2d.fillRect(x + SimConstants.CAR_WIDTH - 5, y + SimConstants.CAR_HEIGHT - 30, 10, 20); // Rueda trasera derecha
+    }
+}
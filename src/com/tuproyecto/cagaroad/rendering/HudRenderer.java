@@ -0,0 +1,125 @@
+package com.tuproyecto.cagaroad.rendering;
+
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Capa del HUD del GamePanel (puntaje y progreso) y textos de la pantalla de inicio.
+ * Las fuentes se crean una sola vez y cada texto se pre-renderiza en una imagen que solo se
+ * vuelve a generar cuando cambia su valor: el puntaje actual y un porcentaje por cada valor 0..100.
+ * Así, en cada fotograma el HUD cuesta dos drawImage, sin concatenar cadenas ni maquetar texto.
+ */
+public class HudRenderer {
+
+    /** Valor de porcentaje que indica Modo Infinito (se muestra "Modo Infinito"). */
+    public static final int INFINITE_MODE = -1;
+
+    private static final Font HUD_FONT = new Font("Arial", Font.BOLD, 24);
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 72);
+    private static final Font PROMPT_FONT = new Font("Arial", Font.PLAIN, 24);
+
+    private static final int HUD_X = SimConstants.GAME_WIDTH - 200;
+    private static final int SCORE_BASELINE = 30;
+    private static final int PROGRESS_BASELINE = 60;
+
+    private int score = Integer.MIN_VALUE;
+    private int percentage = Integer.MIN_VALUE;
+    private TextImage scoreImage;
+    private final TextImage[] percentageImages = new TextImage[101];
+    private TextImage infiniteModeImage;
+
+    private TextImage titleImage;
+    private TextImage promptImage;
+
+    /**
+     * Actualiza los valores del HUD. Solo regenera la imagen del valor que cambió.
+     * @param newScore El puntaje actual.
+     * @param newPercentage El progreso del nivel (0..100) o INFINITE_MODE.
+     */
+    public void update(int newScore, int newPercentage) {
+        if (newScore != score) {
+            score = newScore;
+            scoreImage = new TextImage("Puntaje: " + score, HUD_FONT);
+        }
+        percentage = newPercentage;
+    }
+
+    /**
+     * Dibuja el puntaje y el progreso con los valores de la última llamada a update().
+     * @param g2d El objeto Graphics2D usado para dibujar.
+     */
+    public void draw(Graphics2D g2d) {
+        if (scoreImage != null) {
+            scoreImage.draw(g2d, HUD_X, SCORE_BASELINE);
+        }
+        TextImage progressImage = getProgressImage();
+        if (progressImage != null) {
+            progressImage.draw(g2d, HUD_X, PROGRESS_BASELINE);
+        }
+    }
+
+    /**
+     * Dibuja los textos de la pantalla "Presione E para empezar...".
+     * @param g2d El objeto Graphics2D usado para dibujar.
+     */
+    public void drawStartScreen(Graphics2D g2d) {
+        if (titleImage == null) {
+            titleImage = new TextImage("JUGAR", TITLE_FONT);
+            promptImage = new TextImage("Presione E para empezar...", PROMPT_FONT);
+        }
+        titleImage.draw(g2d, (SimConstants.GAME_WIDTH - titleImage.width) / 2, SimConstants.GAME_HEIGHT / 2 - 50);
+        promptImage.draw(g2d, (SimConstants.GAME_WIDTH - promptImage.width) / 2, SimConstants.GAME_HEIGHT / 2 + 20);
+    }
+
+    private TextImage getProgressImage() {
+        if (percentage == INFINITE_MODE) {
+            if (infiniteModeImage == null) {
+                infiniteModeImage = new TextImage("Modo Infinito", HUD_FONT);
+            }
+            return infiniteModeImage;
+        }
+        if (percentage < 0 || percentage > 100) {
+            return null;
+        }
+        if (percentageImages[percentage] == null) {
+            percentageImages[percentage] = new TextImage(percentage + "%", HUD_FONT);
+        }
+        return percentageImages[percentage];
+    }
+
+    /**
+     * Un texto blanco pre-renderizado en una imagen translúcida, dibujable por su línea base.
+     */
+    private static class TextImage {
+        final BufferedImage image;
+        final int width;
+        final int ascent;
+
+        TextImage(String text, Font font) {
+            BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D measure = scratch.createGraphics();
+            FontMetrics metrics = measure.getFontMetrics(font);
+            measure.dispose();
+
+            width = Math.max(1, metrics.stringWidth(text));
+            ascent = metrics.getAscent();
+            image = new BufferedImage(width, Math.max(1, metrics.getHeight()), BufferedImage.TYPE_INT_ARGB_PRE);
+
+            Graphics2D g2d = image.createGraphics();
+            try {
+                g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+                g2d.setFont(font);
+                g2d.setColor(Color.WHITE);
+                g2d.drawString(text, 0, ascent);
+            } finally {
+                g2d.dispose();
+            }
+        }
+
+        void draw(Graphics2D g2d, int x, int baseline) {
+            g2d.drawImage(image, x, baseline - ascent, null);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.tuproyecto.cagaroad.rendering;
+
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+
+import java.awt.*;
+
+/**
+ * Colores del juego. Están separados de las constantes de la simulación (SimConstants), que solo
+ * guarda índices de color, para que el núcleo no dependa de AWT.
+ */
+public final class Palette {
+
+    private Palette() {
+    }
+
+    // Colores de la carretera
+    public static final Color ROAD_COLOR = Color.DARK_GRAY; // Color de la carretera
+    public static final Color ROAD_LINE_COLOR = Color.YELLOW; // Color de las líneas de la carretera
+    public static final Color GRASS_COLOR = new Color(50, 150, 50); // Color del "césped" lateral
+
+    // Coche del jugador
+    public static final Color DEFAULT_PLAYER_CAR_COLOR = Color.RED; // Color del coche si no se personaliza
+    public static final Color[] PLAYER_CAR_COLORS = {Color.BLACK, Color.RED, Color.YELLOW, Color.CYAN, Color.MAGENTA}; // Colores elegibles (sin Color.WHITE)
+
+    // Colores de los autos enemigos, indexados por el índice de color de la simulación
+    public static final Color[] OBSTACLE_COLORS = {
+            Color.GREEN,
+            Color.BLUE,
+            Color.MAGENTA,
+            Color.YELLOW,
+            Color.CYAN,
+            Color.BLACK,
+            Color.RED
+    };
+
+    static {
+        if (OBSTACLE_COLORS.length != SimConstants.OBSTACLE_COLOR_COUNT) {
+            throw new IllegalStateException("OBSTACLE_COLORS tiene " + OBSTACLE_COLORS.length
+                    + " colores y SimConstants.OBSTACLE_COLOR_COUNT es " + SimConstants.OBSTACLE_COLOR_COUNT);
+        }
+    }
+}
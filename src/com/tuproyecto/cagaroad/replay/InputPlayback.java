@@ -0,0 +1,214 @@
+package com.tuproyecto.cagaroad.replay;
+
+import com.tuproyecto.cagaroad.simulation.PlayerInput;
+import com.tuproyecto.cagaroad.simulation.Simulation;
+import com.tuproyecto.cagaroad.simulation.StepResult;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reproduce una partida grabada con {@link InputRecorder}.
+ * El archivo se lee a través de un MappedByteBuffer: solo se cargan de disco las páginas que se usan.
+ * Las entradas se decodifican a medida que la simulación llega a su tick, sin crear objetos por paso,
+ * y {@link #seek(Simulation, long)} salta a cualquier tick partiendo de la instantánea más cercana.
+ */
+public class InputPlayback {
+
+    private final ByteBuffer data;
+    private final long seed;
+    private final int level;
+    private final int carColorRgb;
+    private final int snapshotInterval;
+    private final int snapshotCount;
+    private final int inputsOffset;
+    private final int indexOffset;
+
+    // Resultado grabado, para comprobar que la reproducción coincide
+    private final long expectedFinalTick;
+    private final int expectedScore;
+    private final StepResult expectedResult;
+
+    // Cursor de reproducción
+    private int position;
+    private long nextTick;
+    private PlayerInput nextInput;
+
+    private InputPlayback(ByteBuffer data) throws IOException {
+        this.data = data;
+        if (data.limit() < ReplayFormat.HEADER_SIZE || data.getInt(ReplayFormat.OFFSET_MAGIC) != ReplayFormat.MAGIC) {
+            throw new IOException("No es una grabación de CAGAROAD");
+        }
+        int version = data.getInt(ReplayFormat.OFFSET_VERSION);
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("Versión de grabación no soportada: " + version);
+        }
+        seed = data.getLong(ReplayFormat.OFFSET_SEED);
+        level = data.getInt(ReplayFormat.OFFSET_LEVEL);
+        carColorRgb = data.getInt(ReplayFormat.OFFSET_CAR_COLOR);
+        snapshotInterval = data.getInt(ReplayFormat.OFFSET_SNAPSHOT_INTERVAL);
+        snapshotCount = data.getInt(ReplayFormat.OFFSET_SNAPSHOT_COUNT);
+        inputsOffset = (int) data.getLong(ReplayFormat.OFFSET_INPUTS);
+        indexOffset = (int) data.getLong(ReplayFormat.OFFSET_INDEX);
+        expectedFinalTick = data.getLong(ReplayFormat.OFFSET_FINAL_TICK);
+        expectedScore = data.getInt(ReplayFormat.OFFSET_SCORE);
+
+        int resultOrdinal = data.getInt(ReplayFormat.OFFSET_RESULT);
+        if (resultOrdinal < 0 || resultOrdinal >= StepResult.values().length) {
+            throw new IOException("Resultado inválido en la grabación: " + resultOrdinal);
+        }
+        expectedResult = StepResult.values()[resultOrdinal];
+        if (snapshotInterval <= 0 || snapshotCount < 0 || inputsOffset < ReplayFormat.HEADER_SIZE
+                || (long) indexOffset + (long) snapshotCount * ReplayFormat.INDEX_ENTRY_SIZE > data.limit()) {
+            throw new IOException("Grabación dañada o truncada");
+        }
+
+        rewind();
+    }
+
+    /**
+     * Abre una grabación mapeando el archivo en memoria.
+     * @param file El archivo .cgr.
+     * @return La grabación lista para reproducir.
+     * @throws IOException Si no se pudo leer o el formato no es válido.
+     */
+    public static InputPlayback load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Grabación demasiado grande: " + file);
+            }
+            return new InputPlayback(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Grabación truncada: " + file, e);
+        }
+    }
+
+    /**
+     * Vuelve al comienzo de las entradas.
+     */
+    public void rewind() {
+        position = inputsOffset;
+        nextTick = 0;
+        decodeNext();
+    }
+
+    /**
+     * @param tick El número de paso actual (Simulation.getTick() antes de llamar a step()).
+     * @return La entrada grabada para ese paso, o NONE si no hubo ninguna.
+     */
+    public PlayerInput inputForTick(long tick) {
+        if (nextInput == null || tick < nextTick) {
+            return PlayerInput.NONE;
+        }
+        PlayerInput input = nextInput;
+        decodeNext();
+        return input;
+    }
+
+    /**
+     * Lleva la simulación al tick indicado: restaura la instantánea anterior más cercana y
+     * simula hacia adelante desde ahí (como mucho snapshotInterval pasos).
+     * @param simulation La simulación que se mostrará.
+     * @param targetTick El tick al que saltar; se limita al rango de la partida grabada.
+     */
+    public void seek(Simulation simulation, long targetTick) {
+        targetTick = Math.max(0, Math.min(targetTick, expectedFinalTick));
+        if (snapshotCount == 0) {
+            simulation.reset(level, seed);
+            rewind();
+        } else {
+            int entry = indexOffset + (int) Math.min(targetTick / snapshotInterval, snapshotCount - 1) * ReplayFormat.INDEX_ENTRY_SIZE;
+            ByteBuffer snapshot = data.duplicate();
+            snapshot.position((int) data.getLong(entry + Long.BYTES));
+            simulation.readSnapshot(snapshot);
+            position = (int) data.getLong(entry + 2 * Long.BYTES);
+            nextTick = data.getLong(entry + 3 * Long.BYTES);
+            decodeNext();
+        }
+        while (simulation.getResult() == StepResult.RUNNING && simulation.getTick() < targetTick) {
+            simulation.step(inputForTick(simulation.getTick()));
+        }
+    }
+
+    /**
+     * Ejecuta la partida grabada completa sobre una simulación, sin pantalla.
+     * @param simulation La simulación a usar; se reinicia con la semilla y el nivel grabados.
+     * @return true si el tick final, la puntuación y el resultado coinciden con los grabados.
+     */
+    public boolean runHeadless(Simulation simulation) {
+        rewind();
+        simulation.reset(level, seed);
+        while (simulation.getResult() == StepResult.RUNNING && simulation.getTick() < expectedFinalTick) {
+            simulation.step(inputForTick(simulation.getTick()));
+        }
+        return matches(simulation);
+    }
+
+    /**
+     * @return true si la simulación terminó igual que la partida grabada.
+     */
+    public boolean matches(Simulation simulation) {
+        return simulation.getTick() == expectedFinalTick
+                && simulation.getScore() == expectedScore
+                && simulation.getResult() == expectedResult;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getCarColorRgb() {
+        return carColorRgb;
+    }
+
+    public int getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public int getSnapshotCount() {
+        return snapshotCount;
+    }
+
+    public long getExpectedFinalTick() {
+        return expectedFinalTick;
+    }
+
+    public int getExpectedScore() {
+        return expectedScore;
+    }
+
+    public StepResult getExpectedResult() {
+        return expectedResult;
+    }
+
+    private void decodeNext() {
+        long entry = readVarLong();
+        if (entry == ReplayFormat.END_OF_INPUTS) {
+            nextInput = null;
+            position--; // Se queda sobre el marcador de fin
+            return;
+        }
+        entry--;
+        nextTick += entry >>> 1;
+        nextInput = (entry & 1) == ReplayFormat.DIRECTION_LEFT ? PlayerInput.LEFT : PlayerInput.RIGHT;
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data.get(position++);
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,224 @@
+package com.tuproyecto.cagaroad.replay;
+
+import com.tuproyecto.cagaroad.simulation.PlayerInput;
+import com.tuproyecto.cagaroad.simulation.Simulation;
+import com.tuproyecto.cagaroad.simulation.StepResult;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Graba una partida en el formato de {@link ReplayFormat}: la semilla, el nivel, el color del coche,
+ * los cambios de carril indexados por tick y, cada cierto número de ticks, una instantánea completa
+ * de la simulación para poder saltar a cualquier punto al reproducirla.
+ * Todo se escribe en arreglos reutilizados que solo crecen (duplicándose) si una partida es muy
+ * larga, así que grabar un cambio de carril no crea objetos.
+ */
+public class InputRecorder {
+
+    private static final int INITIAL_CAPACITY = 4096;
+    private static final int INITIAL_SNAPSHOTS = 16;
+
+    private final int snapshotInterval;
+
+    private long seed;
+    private int level;
+    private int carColorRgb;
+
+    // Entradas codificadas
+    private byte[] inputs = new byte[INITIAL_CAPACITY];
+    private int inputsLength;
+    private long lastTick;
+    private int inputCount;
+
+    // Instantáneas y su índice (posiciones relativas a su sección; se ajustan al guardar)
+    private ByteBuffer snapshots = ByteBuffer.allocate(INITIAL_CAPACITY);
+    private long[] indexTicks = new long[INITIAL_SNAPSHOTS];
+    private long[] indexSnapshotPositions = new long[INITIAL_SNAPSHOTS];
+    private long[] indexInputPositions = new long[INITIAL_SNAPSHOTS];
+    private long[] indexInputBaseTicks = new long[INITIAL_SNAPSHOTS];
+    private int snapshotCount;
+
+    private boolean recording;
+
+    /**
+     * Constructor del InputRecorder.
+     * @param snapshotInterval Cada cuántos ticks se guarda una instantánea de la simulación.
+     */
+    public InputRecorder(int snapshotInterval) {
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("snapshotInterval debe ser positivo");
+        }
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Empieza una grabación nueva, descartando la anterior.
+     * @param seed La semilla de la simulación.
+     * @param level El nivel de la partida.
+     * @param carColorRgb El color del coche del jugador (Color.getRGB()).
+     */
+    public void start(long seed, int level, int carColorRgb) {
+        this.seed = seed;
+        this.level = level;
+        this.carColorRgb = carColorRgb;
+        inputsLength = 0;
+        lastTick = 0;
+        inputCount = 0;
+        snapshots.clear();
+        snapshotCount = 0;
+        recording = true;
+    }
+
+    /**
+     * Registra un paso: si el tick es múltiplo del intervalo guarda una instantánea y luego
+     * registra la entrada. Debe llamarse justo antes de simulation.step(input).
+     * @param simulation La simulación, todavía sin avanzar.
+     * @param input La entrada que se aplicará en este paso.
+     */
+    public void recordStep(Simulation simulation, PlayerInput input) {
+        if (!recording) {
+            return;
+        }
+        long tick = simulation.getTick();
+        if (tick % snapshotInterval == 0) {
+            snapshot(simulation);
+        }
+        record(tick, input);
+    }
+
+    /**
+     * Registra la entrada aplicada en un paso. Las entradas NONE no se guardan.
+     * @param tick El número de paso (Simulation.getTick() antes de llamar a step()).
+     * @param input La entrada aplicada en ese paso.
+     */
+    public void record(long tick, PlayerInput input) {
+        if (!recording || input == PlayerInput.NONE) {
+            return;
+        }
+        ensureInputCapacity(ReplayFormat.MAX_VARLONG_BYTES);
+        int direction = input == PlayerInput.LEFT ? ReplayFormat.DIRECTION_LEFT : ReplayFormat.DIRECTION_RIGHT;
+        inputsLength = ReplayFormat.writeVarLong(inputs, inputsLength, (((tick - lastTick) << 1) | direction) + 1);
+        lastTick = tick;
+        inputCount++;
+    }
+
+    private void snapshot(Simulation simulation) {
+        if (snapshotCount == indexTicks.length) {
+            int newLength = indexTicks.length * 2;
+            indexTicks = Arrays.copyOf(indexTicks, newLength);
+            indexSnapshotPositions = Arrays.copyOf(indexSnapshotPositions, newLength);
+            indexInputPositions = Arrays.copyOf(indexInputPositions, newLength);
+            indexInputBaseTicks = Arrays.copyOf(indexInputBaseTicks, newLength);
+        }
+        int size = simulation.getSnapshotSize();
+        if (snapshots.remaining() < size) {
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(snapshots.capacity() * 2, snapshots.position() + size));
+            snapshots.flip();
+            bigger.put(snapshots);
+            snapshots = bigger;
+        }
+        indexTicks[snapshotCount] = simulation.getTick();
+        indexSnapshotPositions[snapshotCount] = snapshots.position();
+        indexInputPositions[snapshotCount] = inputsLength;
+        indexInputBaseTicks[snapshotCount] = lastTick;
+        snapshotCount++;
+        simulation.writeSnapshot(snapshots);
+    }
+
+    /**
+     * Termina la grabación con el resultado final de la partida y la guarda en un archivo.
+     * @param file El archivo de destino (se crean las carpetas que falten).
+     * @param finalTick El último tick de la partida.
+     * @param score La puntuación final.
+     * @param result El resultado final.
+     * @throws IOException Si no se pudo escribir el archivo.
+     */
+    public void finish(Path file, long finalTick, int score, StepResult result) throws IOException {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+        ensureInputCapacity(1);
+        inputsLength = ReplayFormat.writeVarLong(inputs, inputsLength, ReplayFormat.END_OF_INPUTS);
+
+        long inputsOffset = ReplayFormat.HEADER_SIZE;
+        long snapshotsOffset = inputsOffset + inputsLength;
+        long indexOffset = snapshotsOffset + snapshots.position();
+
+        ByteBuffer header = ByteBuffer.allocate(ReplayFormat.HEADER_SIZE);
+        header.putInt(ReplayFormat.OFFSET_MAGIC, ReplayFormat.MAGIC)
+                .putInt(ReplayFormat.OFFSET_VERSION, ReplayFormat.VERSION)
+                .putLong(ReplayFormat.OFFSET_SEED, seed)
+                .putInt(ReplayFormat.OFFSET_LEVEL, level)
+                .putInt(ReplayFormat.OFFSET_CAR_COLOR, carColorRgb)
+                .putInt(ReplayFormat.OFFSET_SNAPSHOT_INTERVAL, snapshotInterval)
+                .putInt(ReplayFormat.OFFSET_SNAPSHOT_COUNT, snapshotCount)
+                .putLong(ReplayFormat.OFFSET_INPUTS, inputsOffset)
+                .putLong(ReplayFormat.OFFSET_INDEX, indexOffset)
+                .putLong(ReplayFormat.OFFSET_FINAL_TICK, finalTick)
+                .putInt(ReplayFormat.OFFSET_SCORE, score)
+                .putInt(ReplayFormat.OFFSET_RESULT, result.ordinal());
+
+        ByteBuffer index = ByteBuffer.allocate(snapshotCount * ReplayFormat.INDEX_ENTRY_SIZE);
+        for (int i = 0; i < snapshotCount; i++) {
+            index.putLong(indexTicks[i])
+                    .putLong(snapshotsOffset + indexSnapshotPositions[i])
+                    .putLong(inputsOffset + indexInputPositions[i])
+                    .putLong(indexInputBaseTicks[i]);
+        }
+        index.flip();
+        ByteBuffer snapshotSection = snapshots.duplicate();
+        snapshotSection.flip();
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer[] sections = {header, ByteBuffer.wrap(inputs, 0, inputsLength), snapshotSection, index};
+            long total = indexOffset + index.remaining();
+            long written = 0;
+            while (written < total) {
+                written += channel.write(sections);
+            }
+        }
+    }
+
+    /**
+     * Descarta la grabación en curso sin guardarla.
+     */
+    public void cancel() {
+        recording = false;
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    public int getInputCount() {
+        return inputCount;
+    }
+
+    public int getSnapshotCount() {
+        return snapshotCount;
+    }
+
+    /**
+     * @return El tamaño aproximado de la grabación en bytes (sin la cabecera ni el índice).
+     */
+    public int getLength() {
+        return inputsLength + snapshots.position();
+    }
+
+    private void ensureInputCapacity(int extra) {
+        if (inputsLength + extra > inputs.length) {
+            inputs = Arrays.copyOf(inputs, Math.max(inputs.length * 2, inputsLength + extra));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.tuproyecto.cagaroad.replay;
+
+/**
+ * Formato binario de las grabaciones de partidas (.cgr), pensado para leerse con un MappedByteBuffer.
+ *
+ * Cabecera de HEADER_SIZE bytes con campos de tamaño fijo (ver los OFFSET_*): MAGIC, versión,
+ * semilla, nivel, color del coche (RGB), intervalo entre instantáneas, cantidad de instantáneas,
+ * posición de las entradas y del índice, y el resultado grabado (tick final, puntuación y resultado),
+ * que sirve para comprobar que la reproducción es exacta.
+ *
+ * Entradas: una por cada cambio de carril, como varint de ((ticks desde la entrada anterior << 1) | dirección) + 1,
+ * con dirección 0 = izquierda y 1 = derecha; un 0 marca el final. Los varint usan 7 bits por byte
+ * y el bit alto indica que sigue otro byte.
+ *
+ * Instantáneas: cada snapshotInterval ticks, el estado completo de la simulación (Simulation.writeSnapshot).
+ *
+ * Índice: INDEX_ENTRY_SIZE bytes por instantánea con su tick, su posición en el archivo, la posición
+ * de la primera entrada desde ese tick y el tick de la entrada anterior (base de los deltas).
+ * Como las instantáneas están en ticks múltiplos del intervalo, saltar a un tick cuesta lo mismo
+ * sin importar lo larga que sea la partida: una búsqueda directa en el índice y, como mucho,
+ * snapshotInterval pasos de simulación.
+ */
+final class ReplayFormat {
+
+    static final int MAGIC = 0x43475252; // "CGRR"
+    // Versiones: 1: solo entradas; 2: instantáneas con el estado del generador aleatorio;
+    // 3: la instantánea guarda la posición en la fuente de oleadas (pistas de los niveles);
+    // 4: oleadas elegidas de la tabla de máscaras (otra secuencia para la misma semilla);
+    // 5: colisiones con barrido y oleadas generadas antes de mover (cambian los resultados);
+    // 6: aceleración por nivel, la instantánea guarda la velocidad y la fracción pendiente;
+    // 7: velocidades máximas más bajas (cambian los resultados)
+    static final int VERSION = 7;
+
+    static final int OFFSET_MAGIC = 0;
+    static final int OFFSET_VERSION = 4;
+    static final int OFFSET_SEED = 8;
+    static final int OFFSET_LEVEL = 16;
+    static final int OFFSET_CAR_COLOR = 20;
+    static final int OFFSET_SNAPSHOT_INTERVAL = 24;
+    static final int OFFSET_SNAPSHOT_COUNT = 28;
+    static final int OFFSET_INPUTS = 32;
+    static final int OFFSET_INDEX = 40;
+    static final int OFFSET_FINAL_TICK = 48;
+    static final int OFFSET_SCORE = 56;
+    static final int OFFSET_RESULT = 60;
+    static final int HEADER_SIZE = 64;
+
+    static final int INDEX_ENTRY_SIZE = 4 * Long.BYTES; // tick, posición de la instantánea, posición y tick base de las entradas
+
+    static final int DIRECTION_LEFT = 0;
+    static final int DIRECTION_RIGHT = 1;
+    static final int END_OF_INPUTS = 0;
+
+    static final int MAX_VARLONG_BYTES = 10;
+
+    private ReplayFormat() {
+    }
+
+    /**
+     * Escribe un varint en el buffer.
+     * @return La posición siguiente al último byte escrito.
+     */
+    static int writeVarLong(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+}
@@ -0,0 +1,130 @@
+package com.tuproyecto.cagaroad.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Detección de colisiones sin crear objetos.
+ * Fase amplia: una rejilla de celdas por carril y por franja vertical (de CAR_HEIGHT píxeles).
+ * Cada obstáculo se enlaza en su celda durante el recorrido de ObstacleStore.advance(); luego el
+ * jugador solo se compara con los obstáculos de su carril que están en las franjas cercanas a su Y.
+ * Fase estrecha: aritmética de enteros sobre las hitboxes reducidas por SimConstants.HITBOX_MARGIN.
+ *
+ * La prueba es continua sobre el movimiento vertical de cada paso: un obstáculo choca si su hitbox
+ * toca la del jugador en cualquier punto del tramo que recorrió, no solo en su posición final. Así
+ * un obstáculo rápido no puede atravesar al jugador entre dos pasos, sin importar cuánto avance
+ * en cada uno (el jugador no se mueve durante el paso: el cambio de carril es instantáneo).
+ */
+public class CollisionSystem {
+
+    public static final int HITBOX_WIDTH = SimConstants.CAR_WIDTH - (2 * SimConstants.HITBOX_MARGIN);
+    public static final int HITBOX_HEIGHT = SimConstants.CAR_HEIGHT - (2 * SimConstants.HITBOX_MARGIN);
+
+    private static final int BAND_HEIGHT = SimConstants.CAR_HEIGHT;
+    private static final int MIN_Y = -2 * SimConstants.CAR_HEIGHT; // Los obstáculos aparecen en -CAR_HEIGHT
+    private static final int NUM_BANDS = (SimConstants.GAME_HEIGHT - MIN_Y) / BAND_HEIGHT + 1;
+    // Carriles vecinos que podrían solaparse en X (0 mientras el carril sea más ancho que la hitbox)
+    private static final int LANE_REACH = (HITBOX_WIDTH - 1) / SimConstants.LANE_WIDTH;
+
+    private final int[] cellHead = new int[SimConstants.NUM_LANES * NUM_BANDS];
+    private int[] next = new int[64]; // Lista enlazada de obstáculos por celda, indexada por obstáculo
+
+    private int candidatePairs;       // Pruebas de fase estrecha en el último paso
+    private long totalCandidatePairs;
+
+    public CollisionSystem() {
+        Arrays.fill(cellHead, -1);
+    }
+
+    /**
+     * Comprueba si las hitboxes de dos coches se solapan, con la misma regla que Rectangle.intersects
+     * sobre los rectángulos reducidos por SimConstants.HITBOX_MARGIN, pero sin crear objetos.
+     */
+    public static boolean hitboxesOverlap(int ax, int ay, int bx, int by) {
+        return Math.abs(ax - bx) < HITBOX_WIDTH && Math.abs(ay - by) < HITBOX_HEIGHT;
+    }
+
+    /**
+     * Versión continua de hitboxesOverlap: el coche b bajó de by - dy a by durante el paso y se
+     * comprueba si en algún momento de ese tramo tocó al coche a, que estaba quieto.
+     * @param dy El desplazamiento vertical de b en el paso (0 equivale a hitboxesOverlap).
+     */
+    public static boolean sweptHitboxesOverlap(int ax, int ay, int bx, int by, int dy) {
+        return Math.abs(ax - bx) < HITBOX_WIDTH && by > ay - HITBOX_HEIGHT && by - dy < ay + HITBOX_HEIGHT;
+    }
+
+    /**
+     * Vacía la rejilla. Se llama al comienzo de cada paso, antes de insertar los obstáculos.
+     */
+    public void clear() {
+        Arrays.fill(cellHead, -1);
+    }
+
+    /**
+     * Enlaza un obstáculo en la celda de su carril y franja.
+     * @param index El índice del obstáculo en el ObstacleStore (no debe cambiar hasta la consulta).
+     */
+    public void insert(int index, int lane, int y) {
+        if (index >= next.length) {
+            next = Arrays.copyOf(next, Math.max(index + 1, next.length * 2));
+        }
+        int cell = lane * NUM_BANDS + bandOf(y);
+        next[index] = cellHead[cell];
+        cellHead[cell] = index;
+    }
+
+    /**
+     * Comprueba si el jugador choca con algún obstáculo insertado en este paso, a lo largo de todo
+     * el movimiento del paso.
+     * @param obstacles El contenedor cuyos índices se insertaron en la rejilla.
+     * @param displacement Cuánto bajaron los obstáculos en este paso.
+     * @return true si hay colisión.
+     */
+    public boolean collides(ObstacleStore obstacles, int playerLane, int playerX, int playerY, int displacement) {
+        candidatePairs = 0;
+        int firstLane = Math.max(0, playerLane - LANE_REACH);
+        int lastLane = Math.min(SimConstants.NUM_LANES - 1, playerLane + LANE_REACH);
+        // Los obstáculos están en la rejilla por su Y final: los que pasaron por delante del
+        // jugador en este paso pueden haber terminado hasta displacement px más abajo
+        int firstBand = bandOf(playerY - HITBOX_HEIGHT + 1);
+        int lastBand = bandOf(playerY + HITBOX_HEIGHT - 1 + displacement);
+
+        boolean hit = false;
+        for (int lane = firstLane; lane <= lastLane && !hit; lane++) {
+            for (int band = firstBand; band <= lastBand && !hit; band++) {
+                for (int i = cellHead[lane * NUM_BANDS + band]; i >= 0; i = next[i]) {
+                    candidatePairs++;
+                    if (sweptHitboxesOverlap(playerX, playerY, obstacles.getX(i), obstacles.getY(i), displacement)) {
+                        hit = true;
+                        break;
+                    }
+                }
+            }
+        }
+        totalCandidatePairs += candidatePairs;
+        return hit;
+    }
+
+    private static int bandOf(int y) {
+        int band = (y - MIN_Y) / BAND_HEIGHT;
+        if (band < 0) {
+            return 0;
+        }
+        return Math.min(band, NUM_BANDS - 1);
+    }
+
+    /**
+     * @return Los pares jugador-obstáculo probados en la fase estrecha durante el último paso.
+     */
+    public int getCandidatePairs() {
+        return candidatePairs;
+    }
+
+    public long getTotalCandidatePairs() {
+        return totalCandidatePairs;
+    }
+
+    public void resetStatistics() {
+        candidatePairs = 0;
+        totalCandidatePairs = 0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.tuproyecto.cagaroad.simulation;
+
+import java.util.Random;
+
+/**
+ * Generador aleatorio de la simulación. Usa el mismo generador lineal congruencial que
+ * java.util.Random (así una semilla produce exactamente las mismas partidas que antes),
+ * pero guarda su estado en un campo simple que se puede leer y restaurar. Eso permite
+ * guardar la partida en una instantánea y continuarla después de forma idéntica.
+ * No es seguro entre hilos; cada simulación tiene el suyo.
+ */
+public class GameRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private long state; // Lo inicializa setSeed(), llamado desde el constructor de Random
+
+    public GameRandom(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    /**
+     * @return El estado interno de 48 bits, para guardarlo en una instantánea.
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restaura un estado obtenido con getState().
+     * @param state El estado interno de 48 bits.
+     */
+    public void setState(long state) {
+        this.state = state & MASK;
+    }
+}
@@ -0,0 +1,181 @@
+package com.tuproyecto.cagaroad.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Contenedor de obstáculos en forma de arreglos paralelos de primitivos (x, y, carril, color).
+ * Evita un objeto por obstáculo: los datos de todos los obstáculos quedan contiguos en memoria
+ * y un solo recorrido puede moverlos, eliminar los que salieron de la pantalla y probar colisiones.
+ * Las eliminaciones intercambian el obstáculo con el último ("swap-remove"), así que el orden
+ * de los índices no se conserva.
+ * <p>
+ * Funciona además como un pool acotado de obstáculos: {@link #acquire} reutiliza las ranuras que
+ * liberó {@link #release} y solo reserva memoria cuando se supera la capacidad actual, sin pasar
+ * nunca de {@code maxCapacity}. Las estadísticas de aciertos, fallos y máximo simultáneo permiten
+ * comprobar que en régimen estable no se reserva nada.
+ */
+public class ObstacleStore {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] x;
+    private int[] y;
+    private int[] lane;
+    private int[] colorIndex;
+    private int size;
+    private final int maxCapacity;
+
+    // Estadísticas del pool
+    private long hits;          // Obstáculos servidos desde una ranura ya reservada
+    private long misses;        // Obstáculos que obligaron a agrandar los arreglos
+    private long rejected;      // Obstáculos descartados por haber llegado a maxCapacity
+    private int highWaterMark;  // Máximo de obstáculos vivos a la vez
+
+    public ObstacleStore() {
+        this(INITIAL_CAPACITY, SimConstants.MAX_OBSTACLES);
+    }
+
+    /**
+     * @param initialCapacity Cantidad de obstáculos que caben antes de tener que crecer.
+     * @param maxCapacity Límite de obstáculos vivos a la vez; los que lo superen se descartan.
+     */
+    public ObstacleStore(int initialCapacity, int maxCapacity) {
+        if (maxCapacity < 1) {
+            throw new IllegalArgumentException("maxCapacity debe ser positivo");
+        }
+        this.maxCapacity = maxCapacity;
+        int capacity = Math.max(1, Math.min(initialCapacity, maxCapacity));
+        x = new int[capacity];
+        y = new int[capacity];
+        lane = new int[capacity];
+        colorIndex = new int[capacity];
+    }
+
+    /**
+     * Toma una ranura libre del pool y la inicializa con los datos del obstáculo.
+     * @return El índice del nuevo obstáculo, o -1 si se alcanzó maxCapacity.
+     */
+    public int acquire(int obstacleX, int obstacleY, int obstacleLane, int obstacleColorIndex) {
+        if (size == x.length) {
+            if (size == maxCapacity) {
+                rejected++;
+                return -1;
+            }
+            grow();
+            misses++;
+        } else {
+            hits++;
+        }
+        x[size] = obstacleX;
+        y[size] = obstacleY;
+        lane[size] = obstacleLane;
+        colorIndex[size] = obstacleColorIndex;
+        size++;
+        if (size > highWaterMark) {
+            highWaterMark = size;
+        }
+        return size - 1;
+    }
+
+    /**
+     * Devuelve un obstáculo al pool moviendo el último a su posición.
+     * @param index El índice del obstáculo a liberar.
+     */
+    public void release(int index) {
+        int last = --size;
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            lane[index] = lane[last];
+            colorIndex[index] = colorIndex[last];
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Recorrido único por paso: mueve cada obstáculo hacia abajo, elimina los que pasan de
+     * {@code cullY} e inserta los que quedan en la rejilla de colisiones.
+     * @param speed Desplazamiento vertical de este paso.
+     * @param cullY Los obstáculos con Y mayor que este valor se eliminan.
+     * @param collisions La rejilla donde se enlazan los obstáculos (se vacía antes de empezar).
+     */
+    public void advance(int speed, int cullY, CollisionSystem collisions) {
+        collisions.clear();
+        int i = 0;
+        while (i < size) {
+            int newY = y[i] + speed;
+            if (newY > cullY) {
+                release(i); // El último ocupa la posición i y se procesa en esta misma vuelta
+                continue;
+            }
+            y[i] = newY;
+            collisions.insert(i, lane[i], newY); // El índice i ya no cambia durante este recorrido
+            i++;
+        }
+    }
+
+    private void grow() {
+        int newCapacity = (int) Math.min((long) x.length * 2, maxCapacity);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        lane = Arrays.copyOf(lane, newCapacity);
+        colorIndex = Arrays.copyOf(colorIndex, newCapacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return x.length;
+    }
+
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Reinicia las estadísticas del pool (no libera la memoria ya reservada).
+     */
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        rejected = 0;
+        highWaterMark = size;
+    }
+
+    public int getX(int index) {
+        return x[index];
+    }
+
+    public int getY(int index) {
+        return y[index];
+    }
+
+    public int getLane(int index) {
+        return lane[index];
+    }
+
+    public int getColorIndex(int index) {
+        return colorIndex[index];
+    }
+}
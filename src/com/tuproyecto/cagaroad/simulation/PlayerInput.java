@@ -0,0 +1,10 @@
+package com.tuproyecto.cagaroad.simulation;
+
+/**
+ * Acción del jugador que se aplica en un paso de la simulación.
+ */
+public enum PlayerInput {
+    NONE,   // Seguir en el mismo carril
+    LEFT,   // Cambiar al carril de la izquierda
+    RIGHT   // Cambiar al carril de la derecha
+}
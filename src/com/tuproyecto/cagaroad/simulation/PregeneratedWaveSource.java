@@ -0,0 +1,220 @@
+package com.tuproyecto.cagaroad.simulation;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Oleadas aleatorias generadas por adelantado en un hilo en segundo plano.
+ * Produce exactamente las mismas oleadas que {@link RandomWaveSource} con la misma semilla y los
+ * pesos del Modo Infinito (el único nivel donde se usa), pero el paso de la simulación solo saca la
+ * siguiente de una cola circular acotada (un productor, un consumidor, sin bloqueos ni objetos por
+ * oleada). Cuando la cola está llena el productor duerme hasta que el consumidor saca alguna.
+ *
+ * Cada oleada de la cola lleva el estado del generador aleatorio después de generarla. Así, si el
+ * productor se atrasa, el consumidor genera la oleada que le falta él mismo a partir del estado de
+ * la anterior: el resultado es idéntico y las oleadas que el productor entregue tarde se descartan.
+ * Reiniciar la partida o restaurar una instantánea abre una nueva "época": el productor vuelve a
+ * empezar desde el nuevo estado y la cola se vacía.
+ */
+public class PregeneratedWaveSource implements WaveSource {
+
+    private static final int LANES = SimConstants.NUM_LANES;
+
+    // Cola circular: arreglos paralelos de primitivos, un hueco por oleada
+    private final int mask;
+    private final long[] slotEpochs;
+    private final long[] slotIndexes; // Número de oleada dentro de su época
+    private final long[] slotStates; // Estado del generador después de la oleada
+    private final int[] slotCounts;
+    private final int[] slotLanes;
+    private final int[] slotColors;
+    private final AtomicLong head = new AtomicLong(); // Próximo hueco a leer (solo lo avanza el consumidor)
+    private final AtomicLong tail = new AtomicLong(); // Próximo hueco a escribir (solo lo avanza el productor)
+
+    // Pedido de reinicio para el productor: se escribe el estado y después la época
+    private volatile long restartState;
+    private volatile long epoch;
+
+    private final Thread producer;
+
+    // Lado del consumidor (el hilo de la simulación)
+    private final GameRandom inlineRandom = new GameRandom(0);
+    private final WaveGenerator inlineGenerator = new WaveGenerator();
+    private long waveIndex = -1; // Oleada actual dentro de la época
+    private long stateBeforeWave;
+    private long stateAfterWave;
+    private final int[] lanes = new int[LANES];
+    private final int[] colorIndexes = new int[LANES];
+    private int count;
+    private long inlineWaves;
+
+    /**
+     * Constructor del PregeneratedWaveSource. Arranca el hilo productor (demonio).
+     * @param capacity Cuántas oleadas puede tener preparadas; se redondea a la siguiente potencia de dos.
+     */
+    public PregeneratedWaveSource(int capacity) {
+        this(capacity, true);
+    }
+
+    // Sin el productor todas las oleadas se generan en el consumidor. Visible en el paquete para los tests
+    PregeneratedWaveSource(int capacity, boolean startProducer) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity debe ser positiva");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        mask = size - 1;
+        slotEpochs = new long[size];
+        slotIndexes = new long[size];
+        slotStates = new long[size];
+        slotCounts = new int[size];
+        slotLanes = new int[size * LANES];
+        slotColors = new int[size * LANES];
+
+        producer = new Thread(this::produce, "cagaroad-waves");
+        producer.setDaemon(true);
+        if (startProducer) {
+            producer.start();
+        }
+    }
+
+    @Override
+    public void reset(long seed) {
+        inlineRandom.setSeed(seed);
+        restart(inlineRandom.getState());
+    }
+
+    @Override
+    public boolean next() {
+        long wanted = waveIndex + 1;
+        long currentEpoch = epoch;
+        boolean found = false;
+        long h = head.get();
+        long t = tail.get();
+        // Descarta las oleadas de otra época o que el consumidor ya generó por su cuenta
+        while (h < t) {
+            int slot = (int) h & mask;
+            if (slotEpochs[slot] == currentEpoch && slotIndexes[slot] == wanted) {
+                count = slotCounts[slot];
+                System.arraycopy(slotLanes, slot * LANES, lanes, 0, count);
+                System.arraycopy(slotColors, slot * LANES, colorIndexes, 0, count);
+                stateBeforeWave = stateAfterWave;
+                stateAfterWave = slotStates[slot];
+                found = true;
+                h++;
+                break;
+            }
+            h++;
+        }
+        head.lazySet(h);
+        LockSupport.unpark(producer); // Hay lugar en la cola
+
+        if (!found) {
+            // El productor va atrasado: se genera aquí, con el mismo resultado
+            inlineRandom.setState(stateAfterWave);
+            stateBeforeWave = stateAfterWave;
+            count = inlineGenerator.generate(inlineRandom);
+            for (int i = 0; i < count; i++) {
+                lanes[i] = inlineGenerator.getLane(i);
+                colorIndexes[i] = inlineGenerator.getColorIndex(i);
+            }
+            stateAfterWave = inlineRandom.getState();
+            inlineWaves++;
+        }
+        waveIndex = wanted;
+        return true;
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getLane(int index) {
+        return lanes[index];
+    }
+
+    @Override
+    public int getColorIndex(int index) {
+        return colorIndexes[index];
+    }
+
+    @Override
+    public int getSpacing() {
+        return SimConstants.WAVE_SPACING;
+    }
+
+    @Override
+    public int getLevelLength() {
+        return 0;
+    }
+
+    /**
+     * @return El estado del generador antes de la oleada actual (igual que en RandomWaveSource,
+     *         así las instantáneas de una y otra fuente son intercambiables).
+     */
+    @Override
+    public long getPosition() {
+        return stateBeforeWave;
+    }
+
+    @Override
+    public void setPosition(long position) {
+        restart(position);
+        next();
+    }
+
+    /**
+     * @return Cuántas oleadas tuvo que generar el consumidor porque el productor iba atrasado.
+     */
+    public long getInlineWaveCount() {
+        return inlineWaves;
+    }
+
+    // Nueva época: el productor empezará desde state y lo que quede en la cola ya no sirve
+    private void restart(long state) {
+        waveIndex = -1;
+        stateBeforeWave = state;
+        stateAfterWave = state;
+        count = 0;
+        restartState = state;
+        epoch = epoch + 1; // Solo el consumidor escribe la época
+        head.lazySet(tail.get());
+        LockSupport.unpark(producer);
+    }
+
+    private void produce() {
+        GameRandom random = new GameRandom(0);
+        WaveGenerator generator = new WaveGenerator();
+        long producerEpoch = -1;
+        long index = 0;
+        while (true) {
+            long currentEpoch = epoch;
+            if (currentEpoch != producerEpoch) {
+                producerEpoch = currentEpoch;
+                random.setState(restartState);
+                index = 0;
+            }
+            long t = tail.get();
+            if (t - head.get() > mask) {
+                LockSupport.park(this); // Cola llena: espera a que el consumidor saque una oleada
+                continue;
+            }
+
+            int slot = (int) t & mask;
+            int waveCount = generator.generate(random);
+            for (int i = 0; i < waveCount; i++) {
+                slotLanes[slot * LANES + i] = generator.getLane(i);
+                slotColors[slot * LANES + i] = generator.getColorIndex(i);
+            }
+            slotCounts[slot] = waveCount;
+            slotStates[slot] = random.getState();
+            slotIndexes[slot] = index++;
+            slotEpochs[slot] = producerEpoch;
+            tail.lazySet(t + 1); // Publica la oleada después de escribir sus campos
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.tuproyecto.cagaroad.simulation;
+
+/**
+ * Oleadas aleatorias a partir de la semilla de la partida, separadas siempre por
+ * SimConstants.WAVE_SPACING px. Con la misma semilla genera exactamente las mismas oleadas
+ * que el {@link WaveGenerator} con un {@link GameRandom} recién sembrado.
+ */
+public class RandomWaveSource implements WaveSource {
+
+    private final GameRandom random = new GameRandom(0);
+    private final WaveGenerator generator = new WaveGenerator();
+    private long stateBeforeWave; // Estado del generador antes de la oleada actual
+
+    /**
+     * Usa los pesos de oleada de un nivel (SimConstants.WAVE_BLOCK_WEIGHTS).
+     * @param level El número del nivel (0 para Modo Infinito).
+     */
+    public void setLevel(int level) {
+        generator.setLevel(level);
+    }
+
+    @Override
+    public void reset(long seed) {
+        random.setSeed(seed);
+        stateBeforeWave = random.getState();
+    }
+
+    @Override
+    public boolean next() {
+        stateBeforeWave = random.getState();
+        generator.generate(random);
+        return true;
+    }
+
+    @Override
+    public int getCount() {
+        return generator.getCount();
+    }
+
+    @Override
+    public int getLane(int index) {
+        return generator.getLane(index);
+    }
+
+    @Override
+    public int getColorIndex(int index) {
+        return generator.getColorIndex(index);
+    }
+
+    @Override
+    public int getSpacing() {
+        return SimConstants.WAVE_SPACING;
+    }
+
+    @Override
+    public int getLevelLength() {
+        return 0;
+    }
+
+    /**
+     * @return El estado del generador antes de la oleada actual; al restaurarlo se vuelve a generar.
+     */
+    @Override
+    public long getPosition() {
+        return stateBeforeWave;
+    }
+
+    @Override
+    public void setPosition(long position) {
+        random.setState(position);
+        next();
+    }
+}
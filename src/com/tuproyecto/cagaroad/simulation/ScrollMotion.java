@@ -0,0 +1,100 @@
+package com.tuproyecto.cagaroad.simulation;
+
+/**
+ * Velocidad de desplazamiento de la carretera y los obstáculos, con la aceleración de cada nivel.
+ * La velocidad se guarda en punto fijo (FRACTION_BITS bits de fracción de px por paso) y lo que no
+ * llega a un px entero se arrastra al paso siguiente, así que se pueden usar velocidades y
+ * aceleraciones fraccionarias y la distancia total recorrida es exacta. Cada paso solo suma y
+ * desplaza enteros; los valores en double de SimConstants se convierten una sola vez al cargar la clase.
+ * La usan la Simulation y, con una copia, quien necesite saber cuánto se avanzará en los próximos
+ * pasos (el piloto automático, el analizador de oleadas).
+ */
+public final class ScrollMotion {
+
+    public static final int FRACTION_BITS = 16;
+    public static final int ONE = 1 << FRACTION_BITS; // 1 px por paso
+    private static final int FRACTION_MASK = ONE - 1;
+
+    private static final int BASE_SPEED = SimConstants.GAME_SPEED_BASE << FRACTION_BITS;
+    private static final int[] MAX_SPEEDS = new int[SimConstants.LEVEL_LENGTHS.length];
+    private static final int[] RAMP_PER_TICK = new int[SimConstants.LEVEL_LENGTHS.length];
+
+    static {
+        for (int level = 0; level < MAX_SPEEDS.length; level++) {
+            int max = (int) Math.round(SimConstants.LEVEL_MAX_SPEEDS[level] * ONE);
+            long ticks = (long) SimConstants.LEVEL_RAMP_SECONDS[level] * SimConstants.TICKS_PER_SECOND;
+            MAX_SPEEDS[level] = Math.max(BASE_SPEED, max);
+            RAMP_PER_TICK[level] = ticks > 0 ? (int) Math.max(0, Math.round((double) (max - BASE_SPEED) / ticks)) : 0;
+        }
+    }
+
+    private int maxSpeed;
+    private int rampPerTick;
+    private int speed;     // px por paso, en punto fijo
+    private int remainder; // Fracción de px recorrida y todavía no aplicada, en punto fijo
+
+    public ScrollMotion() {
+        reset(1);
+    }
+
+    /**
+     * Vuelve a la velocidad base con la aceleración de un nivel.
+     * @param level El número del nivel (0 para Modo Infinito); uno inválido usa la del Nivel 1.
+     */
+    public void reset(int level) {
+        restore(level, BASE_SPEED, 0);
+    }
+
+    /**
+     * Restaura un estado guardado con getSpeed() y getRemainder().
+     */
+    public void restore(int level, int speed, int remainder) {
+        int index = level >= 0 && level < MAX_SPEEDS.length ? level : 1;
+        this.maxSpeed = MAX_SPEEDS[index];
+        this.rampPerTick = RAMP_PER_TICK[index];
+        this.speed = speed;
+        this.remainder = remainder & FRACTION_MASK;
+    }
+
+    /**
+     * Copia el estado de otra ScrollMotion (para proyectar los próximos pasos sin tocar el original).
+     */
+    public void copyFrom(ScrollMotion other) {
+        maxSpeed = other.maxSpeed;
+        rampPerTick = other.rampPerTick;
+        speed = other.speed;
+        remainder = other.remainder;
+    }
+
+    /**
+     * Avanza un paso: recorre la velocidad actual y después acelera.
+     * @return Los px enteros recorridos en este paso.
+     */
+    public int advance() {
+        int distance = remainder + speed;
+        remainder = distance & FRACTION_MASK;
+        speed = Math.min(maxSpeed, speed + rampPerTick);
+        return distance >>> FRACTION_BITS;
+    }
+
+    /**
+     * @return La velocidad actual en px por paso, en punto fijo (dividir por ONE para px).
+     */
+    public int getSpeed() {
+        return speed;
+    }
+
+    /**
+     * @return La fracción de px pendiente, en punto fijo.
+     */
+    public int getRemainder() {
+        return remainder;
+    }
+
+    /**
+     * @return La velocidad máxima del nivel actual, en punto fijo.
+     */
+    public int getMaxSpeed() {
+        return maxSpeed;
+    }
+}
@@ -0,0 +1,93 @@
+package com.tuproyecto.cagaroad.simulation;
+
+/**
+ * Constantes de las reglas del juego: dimensiones, carriles, velocidades, oleadas y niveles.
+ * Todo lo que lee la simulación está aquí y no en GameConstants, para que el núcleo (y las
+ * herramientas sin pantalla: bot, analizador, grabaciones) no cargue ninguna clase de AWT.
+ * Los colores están en rendering.Palette; la simulación solo conoce índices de color.
+ */
+public final class SimConstants {
+
+    private SimConstants() {
+    }
+
+    // Dimensiones de la ventana
+    public static final int GAME_WIDTH = 800;
+    public static final int GAME_HEIGHT = 600;
+
+    // Dimensiones y propiedades de los autos (volver a las dimensiones que quieres, ajusta si es necesario)
+    public static final int CAR_WIDTH = 60; // Ancho del auto (vuelve al original o ajusta a tu gusto)
+    public static final int CAR_HEIGHT = 100; // Alto del auto (vuelve al original o ajusta a tu gusto)
+
+    public static final int HITBOX_MARGIN = 5; // Margen para las hitboxes
+
+    // Velocidades
+    public static final int PLAYER_SPEED = 10; // Velocidad de movimiento lateral del jugador
+    public static final int GAME_SPEED_BASE = 6; // Velocidad base de desplazamiento del camino y enemigos hacia el jugador
+
+    // Aceleración: en cada nivel (mismo índice que LEVEL_LENGTHS) la velocidad sube de GAME_SPEED_BASE a
+    // LEVEL_MAX_SPEEDS px por paso, en línea recta durante LEVEL_RAMP_SECONDS. Se admiten fracciones de px:
+    // la simulación guarda la velocidad en punto fijo (ScrollMotion).
+    // Tope: con oleadas cada WAVE_SPACING px, el hueco entre dos cruces se acorta al acelerar y desde unos
+    // 6,4 px por paso ya no alcanza para cruzar un carril a PLAYER_SPEED (ver analysis.SolvabilityAnalyzer)
+    public static final double[] LEVEL_MAX_SPEEDS = {
+            6.3,  // Modo Infinito
+            6.1,  // Nivel 1
+            6.2,  // Nivel 2
+            6.3   // Nivel 3
+    };
+    public static final int[] LEVEL_RAMP_SECONDS = {
+            240, // Modo Infinito: cuatro minutos hasta la velocidad máxima
+            15,  // Nivel 1
+            25,  // Nivel 2
+            30   // Nivel 3
+    };
+
+    // Paso de la simulación
+    public static final int DELAY = 20; // Milisegundos entre cada actualización del juego (aprox. 50 FPS)
+    public static final int TICKS_PER_SECOND = 1000 / DELAY; // Pasos de simulación por segundo
+
+    // Configuración de la puntuación
+    public static final int SCORE_INTERVAL_MS = 5000; // Intervalo de tiempo (en ms) para sumar puntos
+    public static final int SCORE_PER_INTERVAL = 10; // Puntos ganados por cada intervalo de tiempo
+
+    // Configuración de los carriles de la carretera
+    public static final int NUM_LANES = 3; // Número de carriles en la carretera
+    public static final int LANE_WIDTH = (GAME_WIDTH - 2 * (GAME_WIDTH / 6)) / NUM_LANES;
+
+    // Líneas divisorias de la carretera
+    public static final int ROAD_DASH_LENGTH = 40; // Longitud de cada guion de la línea
+    public static final int ROAD_GAP_LENGTH = 40;  // Espacio entre guiones
+    // Alto de la textura de la carretera: el menor múltiplo del patrón de guiones que cubre la pantalla
+    public static final int ROAD_TILE_HEIGHT = ((GAME_HEIGHT + ROAD_DASH_LENGTH + ROAD_GAP_LENGTH - 1)
+            / (ROAD_DASH_LENGTH + ROAD_GAP_LENGTH)) * (ROAD_DASH_LENGTH + ROAD_GAP_LENGTH);
+
+    // Configuración para la generación de obstáculos
+    // Las oleadas van por distancia recorrida: al acelerar llegan más seguido
+    public static final long OBSTACLE_SPAWN_INTERVAL_MS = 1000; // Tiempo entre oleadas a la velocidad base (en ms)
+    public static final int WAVE_SPACING = (int) (OBSTACLE_SPAWN_INTERVAL_MS / DELAY) * GAME_SPEED_BASE; // Los mismos ms, en px recorridos
+    public static final int MIN_LANES_FREE_IN_WAVE = 1; // Mínimo de carriles libres en cada oleada
+    // Pesos opcionales por nivel (mismo índice que LEVEL_LENGTHS) para la cantidad de carriles bloqueados en
+    // cada oleada: el peso i es el de bloquear i+1 carriles, hasta NUM_LANES - MIN_LANES_FREE_IN_WAVE.
+    // null (o un largo distinto) reparte por igual; por ejemplo {2, 1} hace el doble de probable bloquear un solo carril
+    public static final int[][] WAVE_BLOCK_WEIGHTS = {
+            null, // Modo Infinito
+            null, // Nivel 1
+            null, // Nivel 2
+            null  // Nivel 3
+    };
+    public static final int MAX_OBSTACLES = 4096; // Límite del pool de obstáculos vivos a la vez
+
+    // Cantidad de colores de los autos enemigos. La simulación solo guarda el índice (0..OBSTACLE_COLOR_COUNT-1);
+    // rendering.Palette.OBSTACLE_COLORS debe tener exactamente este largo
+    public static final int OBSTACLE_COLOR_COUNT = 7;
+
+    // Longitudes de los niveles
+    public static final int BASE_LEVEL_LENGTH = 5000; // Longitud base para el Nivel 1
+    public static final int[] LEVEL_LENGTHS = {
+            Integer.MAX_VALUE, // Índice 0: Usado para Modo Infinito
+            BASE_LEVEL_LENGTH, // Índice 1: Nivel 1
+            (int)(BASE_LEVEL_LENGTH * 1.5), // Índice 2: Nivel 2 (50% más largo)
+            (int)(BASE_LEVEL_LENGTH * 2.0)  // Índice 3: Nivel 3 (100% más largo)
+    };
+}
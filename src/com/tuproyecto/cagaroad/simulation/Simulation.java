@@ -0,0 +1,357 @@
+package com.tuproyecto.cagaroad.simulation;
+
+import com.tuproyecto.cagaroad.utils.GameLogger;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Núcleo de la simulación del juego, sin Swing ni AWT.
+ * Contiene todas las reglas (movimiento de obstáculos, oleadas, eliminación de obstáculos
+ * fuera de pantalla, colisiones, puntuación y progreso del nivel) y avanza solo cuando
+ * se llama a {@link #step(PlayerInput)}. Cada paso equivale a SimConstants.DELAY ms de juego,
+ * así que una misma semilla y las mismas entradas producen siempre la misma partida.
+ * GamePanel es solo una vista sobre esta clase; también se puede ejecutar sin pantalla
+ * (por ejemplo, miles de partidas por segundo en un servidor).
+ * El estado completo se puede guardar y restaurar con {@link #writeSnapshot(ByteBuffer)}
+ * y {@link #readSnapshot(ByteBuffer)}.
+ * Las oleadas salen de una {@link WaveSource} y aparecen según la distancia recorrida: por defecto
+ * son aleatorias, pero un {@link WaveSource.Provider} puede dar pistas precalculadas para cada nivel.
+ * La velocidad sube durante la partida según el nivel ({@link ScrollMotion}, en punto fijo); como las
+ * oleadas van por distancia, al acelerar también llegan más seguido.
+ */
+public class Simulation {
+
+    private static final GameLogger LOG = GameLogger.get("Simulation");
+
+    /** Posición Y fija del coche del jugador. */
+    public static final int PLAYER_Y = SimConstants.GAME_HEIGHT - SimConstants.CAR_HEIGHT - 50;
+
+    // Tamaño de una instantánea: 6 long y 11 int fijos, más 4 int por obstáculo
+    private static final int SNAPSHOT_HEADER_BYTES = 6 * Long.BYTES + 11 * Integer.BYTES;
+    private static final int SNAPSHOT_OBSTACLE_BYTES = 4 * Integer.BYTES;
+    private static final StepResult[] RESULTS = StepResult.values(); // values() crea un arreglo nuevo en cada llamada
+
+    private final ObstacleStore obstacles = new ObstacleStore();
+    private final CollisionSystem collisions = new CollisionSystem();
+    private final ScrollMotion motion = new ScrollMotion();
+    private final RandomWaveSource randomWaves = new RandomWaveSource();
+    private final WaveSource.Provider waveProvider; // null: todos los niveles son aleatorios
+    private WaveSource waves;
+    private boolean hasWave; // false cuando la pista del nivel ya no tiene más oleadas
+    private int waveDistance; // px recorridos desde la última oleada
+    private long seed;
+
+    private int playerLane;
+    private int roadYOffset;
+
+    private int score;
+    private int currentLevelLength;
+    private int currentProgress;
+    private int levelNumber;
+
+    private long simulationTime; // Tiempo de juego en ms, avanza SimConstants.DELAY por paso
+    private long lastScoreTime;
+    private long tick;
+
+    private StepResult result = StepResult.RUNNING;
+
+    /**
+     * Constructor de la Simulation. Prepara el Nivel 1 con la semilla dada.
+     * @param seed La semilla del generador aleatorio de obstáculos.
+     */
+    public Simulation(long seed) {
+        this(seed, null);
+    }
+
+    /**
+     * Constructor de la Simulation con oleadas elegidas por nivel. Prepara el Nivel 1 con la semilla dada.
+     * @param seed La semilla del generador aleatorio de obstáculos.
+     * @param waveProvider Da la fuente de oleadas de cada nivel (null para usar siempre oleadas aleatorias).
+     */
+    public Simulation(long seed, WaveSource.Provider waveProvider) {
+        this.waveProvider = waveProvider;
+        reset(1, seed);
+    }
+
+    /**
+     * Prepara o reinicia la simulación para un nivel específico.
+     * @param level El número del nivel a iniciar (0 para modo infinito).
+     * @param seed La semilla del generador aleatorio de obstáculos.
+     */
+    public void reset(int level, long seed) {
+        this.levelNumber = level;
+        this.seed = seed;
+        selectWaveSource(level);
+        waves.reset(seed);
+        hasWave = waves.next();
+        waveDistance = 0;
+        motion.reset(level);
+        obstacles.clear();
+        playerLane = SimConstants.NUM_LANES / 2;
+        roadYOffset = 0;
+        score = 0;
+        currentProgress = 0;
+        simulationTime = 0;
+        lastScoreTime = 0;
+        tick = 0;
+        collisions.resetStatistics();
+        obstacles.resetStatistics();
+        result = StepResult.RUNNING;
+
+        if (level == 0) {
+            currentLevelLength = SimConstants.LEVEL_LENGTHS[0];
+        } else if (level >= 1 && level < SimConstants.LEVEL_LENGTHS.length) {
+            currentLevelLength = SimConstants.LEVEL_LENGTHS[level];
+        } else {
+            LOG.warn("Nivel inválido: {}. Usando longitud de Nivel 1.", level);
+            currentLevelLength = SimConstants.LEVEL_LENGTHS[1];
+        }
+        if (waves.getLevelLength() > 0) {
+            currentLevelLength = waves.getLevelLength(); // La pista del nivel fija su propia longitud
+        }
+    }
+
+    private void selectWaveSource(int level) {
+        WaveSource source = waveProvider != null ? waveProvider.forLevel(level) : null;
+        randomWaves.setLevel(level);
+        waves = source != null ? source : randomWaves;
+    }
+
+    /**
+     * Avanza la simulación un paso de tiempo fijo.
+     * @param input La acción del jugador que se aplica al comienzo del paso.
+     * @return RUNNING si la partida sigue, VICTORY o DEFEAT si terminó en este paso (o antes).
+     */
+    public StepResult step(PlayerInput input) {
+        if (result != StepResult.RUNNING) {
+            return result;
+        }
+        tick++;
+
+        if (input == PlayerInput.LEFT && playerLane > 0) {
+            playerLane--;
+        } else if (input == PlayerInput.RIGHT && playerLane < SimConstants.NUM_LANES - 1) {
+            playerLane++;
+        }
+
+        int distance = motion.advance(); // px enteros de este paso; la fracción queda para el siguiente
+        roadYOffset = (roadYOffset + distance) % SimConstants.ROAD_TILE_HEIGHT;
+
+        // Las oleadas que tocan en este paso se colocan antes de mover, en la posición desde la que
+        // llegan a la fila de aparición justo cuando correspondía; así se mueven y se prueban como
+        // las demás aunque en un paso aparezca más de una
+        waveDistance += distance;
+        while (hasWave && waveDistance >= waves.getSpacing()) {
+            waveDistance -= waves.getSpacing();
+            generateObstaclesWave(waveDistance - distance);
+        }
+
+        // Mover y eliminar los que salieron de la pantalla en un solo recorrido; luego probar
+        // colisiones solo contra los obstáculos del carril del jugador cercanos a su Y, sobre todo
+        // el tramo que recorrieron. Solo se eliminan los que ya no pueden haber tocado al jugador.
+        int cullY = Math.max(SimConstants.GAME_HEIGHT, PLAYER_Y + CollisionSystem.HITBOX_HEIGHT - 1 + distance);
+        obstacles.advance(distance, cullY, collisions);
+        if (collisions.collides(obstacles, playerLane, laneToX(playerLane), PLAYER_Y, distance)) {
+            result = StepResult.DEFEAT;
+            return result;
+        }
+
+        simulationTime += SimConstants.DELAY;
+
+        if (simulationTime - lastScoreTime >= SimConstants.SCORE_INTERVAL_MS) {
+            score += SimConstants.SCORE_PER_INTERVAL;
+            lastScoreTime = simulationTime;
+        }
+
+        currentProgress += distance;
+        if (currentLevelLength != Integer.MAX_VALUE && currentProgress >= currentLevelLength) {
+            result = StepResult.VICTORY;
+        }
+        return result;
+    }
+
+    // Coloca la oleada actual y pasa a la siguiente. Visible en el paquete para los benchmarks
+    void generateObstaclesWave() {
+        generateObstaclesWave(0);
+    }
+
+    // offsetY: cuánto más abajo de la fila de aparición (-CAR_HEIGHT) queda la oleada
+    private void generateObstaclesWave(int offsetY) {
+        int count = waves.getCount();
+        for (int i = 0; i < count; i++) {
+            int lane = waves.getLane(i);
+            obstacles.acquire(laneToX(lane), -SimConstants.CAR_HEIGHT + offsetY, lane, waves.getColorIndex(i));
+        }
+        hasWave = waves.next();
+    }
+
+    /**
+     * @return Los bytes que ocupa una instantánea del estado actual.
+     */
+    public int getSnapshotSize() {
+        return SNAPSHOT_HEADER_BYTES + obstacles.size() * SNAPSHOT_OBSTACLE_BYTES;
+    }
+
+    /**
+     * Guarda el estado completo de la partida (incluido el generador aleatorio) a partir de la
+     * posición actual del buffer. Restaurarlo con readSnapshot() y seguir con las mismas
+     * entradas produce exactamente la misma partida.
+     * @param out El buffer de destino; debe tener al menos getSnapshotSize() bytes libres.
+     */
+    public void writeSnapshot(ByteBuffer out) {
+        out.putLong(tick)
+                .putLong(seed)
+                .putLong(waves.getPosition())
+                .putLong(simulationTime)
+                .putLong(waveDistance)
+                .putLong(lastScoreTime)
+                .putInt(levelNumber)
+                .putInt(currentLevelLength)
+                .putInt(playerLane)
+                .putInt(roadYOffset)
+                .putInt(score)
+                .putInt(currentProgress)
+                .putInt(result.ordinal())
+                .putInt(hasWave ? 1 : 0)
+                .putInt(motion.getSpeed())
+                .putInt(motion.getRemainder())
+                .putInt(obstacles.size());
+        for (int i = 0; i < obstacles.size(); i++) {
+            out.putInt(obstacles.getX(i))
+                    .putInt(obstacles.getY(i))
+                    .putInt(obstacles.getLane(i))
+                    .putInt(obstacles.getColorIndex(i));
+        }
+    }
+
+    /**
+     * Restaura un estado guardado con writeSnapshot(), leyendo desde la posición actual del buffer.
+     * @param in El buffer de origen.
+     */
+    public void readSnapshot(ByteBuffer in) {
+        tick = in.getLong();
+        seed = in.getLong();
+        long wavePosition = in.getLong();
+        simulationTime = in.getLong();
+        waveDistance = (int) in.getLong();
+        lastScoreTime = in.getLong();
+        levelNumber = in.getInt();
+        currentLevelLength = in.getInt();
+        playerLane = in.getInt();
+        roadYOffset = in.getInt();
+        score = in.getInt();
+        currentProgress = in.getInt();
+        result = RESULTS[in.getInt()];
+        hasWave = in.getInt() != 0;
+        int speed = in.getInt();
+        motion.restore(levelNumber, speed, in.getInt());
+        selectWaveSource(levelNumber);
+        waves.setPosition(wavePosition);
+
+        int count = in.getInt();
+        obstacles.clear();
+        for (int i = 0; i < count; i++) {
+            obstacles.acquire(in.getInt(), in.getInt(), in.getInt(), in.getInt());
+        }
+    }
+
+    /**
+     * Calcula la coordenada X de un coche centrado en un carril.
+     * @param lane El índice del carril (0 es el de más a la izquierda).
+     * @return La coordenada X de la esquina superior izquierda del coche.
+     */
+    public static int laneToX(int lane) {
+        return (SimConstants.GAME_WIDTH / 6) + (lane * SimConstants.LANE_WIDTH) + (SimConstants.LANE_WIDTH / 2) - (SimConstants.CAR_WIDTH / 2);
+    }
+
+    public StepResult getResult() {
+        return result;
+    }
+
+    /**
+     * @return La semilla con la que se preparó la partida actual.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getPlayerLane() {
+        return playerLane;
+    }
+
+    public int getPlayerX() {
+        return laneToX(playerLane);
+    }
+
+    public int getRoadYOffset() {
+        return roadYOffset;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getCurrentProgress() {
+        return currentProgress;
+    }
+
+    public int getCurrentLevelLength() {
+        return currentLevelLength;
+    }
+
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * @return La velocidad actual en px por paso, en punto fijo (ver ScrollMotion.ONE).
+     */
+    public int getSpeed() {
+        return motion.getSpeed();
+    }
+
+    /**
+     * @return El movimiento de la carretera, para copiarlo y proyectar los próximos pasos (no modificar).
+     */
+    public ScrollMotion getMotion() {
+        return motion;
+    }
+
+    /**
+     * @return El sistema de colisiones (para consultar cuántos pares se probaron por paso).
+     */
+    public CollisionSystem getCollisionSystem() {
+        return collisions;
+    }
+
+    /**
+     * @return El contenedor de obstáculos (para dibujarlos o para pruebas de carga).
+     */
+    public ObstacleStore getObstacles() {
+        return obstacles;
+    }
+
+    public int getObstacleCount() {
+        return obstacles.size();
+    }
+
+    public int getObstacleX(int index) {
+        return obstacles.getX(index);
+    }
+
+    public int getObstacleY(int index) {
+        return obstacles.getY(index);
+    }
+
+    public int getObstacleLane(int index) {
+        return obstacles.getLane(index);
+    }
+
+    public int getObstacleColorIndex(int index) {
+        return obstacles.getColorIndex(index);
+    }
+}
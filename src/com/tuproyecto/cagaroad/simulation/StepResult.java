@@ -0,0 +1,10 @@
+package com.tuproyecto.cagaroad.simulation;
+
+/**
+ * Resultado de un paso de la simulación.
+ */
+public enum StepResult {
+    RUNNING,    // La partida continúa
+    VICTORY,    // Se llegó al final del nivel
+    DEFEAT      // El jugador chocó con un obstáculo
+}
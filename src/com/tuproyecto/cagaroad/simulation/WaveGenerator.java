@@ -0,0 +1,150 @@
+package com.tuproyecto.cagaroad.simulation;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Decide qué carriles bloquea cada oleada de obstáculos y de qué color es cada coche.
+ * Está separado de {@link Simulation} para que otras herramientas (por ejemplo el analizador
+ * de oleadas imposibles) generen exactamente las mismas oleadas que una partida con la misma
+ * semilla, sin tener que simular todo lo demás. El resultado de la última oleada queda en
+ * este objeto hasta la siguiente llamada a generate().
+ *
+ * Las oleadas válidas se calculan una sola vez como máscaras de bits (bit i = carril i), agrupadas
+ * por cantidad de carriles bloqueados. Cada oleada elige cuántos carriles bloquear (según los pesos
+ * del nivel, SimConstants.WAVE_BLOCK_WEIGHTS) y después una máscara de ese grupo, así que cuesta
+ * lo mismo con cualquier cantidad de carriles y no crea ningún objeto.
+ */
+public class WaveGenerator {
+
+    private static final int LANES = SimConstants.NUM_LANES;
+    private static final int MAX_BLOCKED = LANES - SimConstants.MIN_LANES_FREE_IN_WAVE;
+
+    // MASKS_BY_BLOCKED[k]: todas las máscaras con exactamente k carriles bloqueados (1..MAX_BLOCKED)
+    private static final int[][] MASKS_BY_BLOCKED = buildMaskTable();
+
+    // BLOCKED_CHOICES[nivel]: cada cantidad de carriles bloqueados repetida tantas veces como su peso.
+    // Los niveles sin pesos comparten el mismo arreglo (reparto uniforme).
+    private static final int[] UNIFORM_CHOICES = buildChoices(null);
+    private static final int[][] BLOCKED_CHOICES = buildLevelChoices();
+
+    private int[] blockedChoices = BLOCKED_CHOICES[0];
+    private final int[] lanes = new int[LANES];
+    private final int[] colorIndexes = new int[LANES];
+    private int count;
+    private int blockedMask;
+
+    /**
+     * Elige los pesos de un nivel para las próximas oleadas (por defecto los del Modo Infinito).
+     * @param level El número del nivel (0 para Modo Infinito).
+     */
+    public void setLevel(int level) {
+        blockedChoices = level >= 0 && level < BLOCKED_CHOICES.length ? BLOCKED_CHOICES[level] : UNIFORM_CHOICES;
+    }
+
+    /**
+     * Genera una oleada nueva, dejando siempre libres al menos SimConstants.MIN_LANES_FREE_IN_WAVE carriles.
+     * @param random El generador aleatorio de la partida.
+     * @return La cantidad de carriles bloqueados (0 si la configuración no permite bloquear ninguno).
+     */
+    public int generate(Random random) {
+        count = 0;
+        blockedMask = 0;
+        if (MAX_BLOCKED <= 0) {
+            return 0;
+        }
+        int[] masks = MASKS_BY_BLOCKED[blockedChoices[random.nextInt(blockedChoices.length)]];
+        blockedMask = masks[random.nextInt(masks.length)];
+
+        int remaining = blockedMask;
+        while (remaining != 0) {
+            lanes[count] = Integer.numberOfTrailingZeros(remaining);
+            colorIndexes[count] = random.nextInt(SimConstants.OBSTACLE_COLOR_COUNT);
+            count++;
+            remaining &= remaining - 1;
+        }
+        return count;
+    }
+
+    /**
+     * @return La cantidad de carriles bloqueados en la última oleada.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public int getLane(int index) {
+        return lanes[index];
+    }
+
+    public int getColorIndex(int index) {
+        return colorIndexes[index];
+    }
+
+    /**
+     * @return Los carriles bloqueados en la última oleada como máscara de bits (bit i = carril i).
+     */
+    public int getBlockedMask() {
+        return blockedMask;
+    }
+
+    private static int[][] buildMaskTable() {
+        if (LANES < 1 || LANES > 16) {
+            throw new IllegalStateException("NUM_LANES debe estar entre 1 y 16: " + LANES);
+        }
+        int[][] table = new int[Math.max(0, MAX_BLOCKED) + 1][];
+        int[] sizes = new int[LANES + 1];
+        for (int mask = 1; mask < (1 << LANES); mask++) {
+            sizes[Integer.bitCount(mask)]++;
+        }
+        for (int blocked = 1; blocked < table.length; blocked++) {
+            table[blocked] = new int[sizes[blocked]];
+            sizes[blocked] = 0;
+        }
+        for (int mask = 1; mask < (1 << LANES); mask++) {
+            int blocked = Integer.bitCount(mask);
+            if (blocked < table.length) {
+                table[blocked][sizes[blocked]++] = mask;
+            }
+        }
+        return table;
+    }
+
+    // Con pesos null o de otro largo que MAX_BLOCKED, todas las cantidades valen lo mismo
+    private static int[] buildChoices(int[] weights) {
+        if (MAX_BLOCKED <= 0) {
+            return new int[0];
+        }
+        if (weights == null || weights.length != MAX_BLOCKED) {
+            weights = new int[MAX_BLOCKED];
+            Arrays.fill(weights, 1);
+        }
+        int total = 0;
+        for (int weight : weights) {
+            if (weight < 0) {
+                throw new IllegalStateException("Los pesos de WAVE_BLOCK_WEIGHTS no pueden ser negativos");
+            }
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalStateException("Los pesos de WAVE_BLOCK_WEIGHTS no pueden sumar 0");
+        }
+        int[] choices = new int[total];
+        int n = 0;
+        for (int i = 0; i < weights.length; i++) {
+            for (int w = 0; w < weights[i]; w++) {
+                choices[n++] = i + 1;
+            }
+        }
+        return choices;
+    }
+
+    private static int[][] buildLevelChoices() {
+        int[][] choices = new int[SimConstants.LEVEL_LENGTHS.length][];
+        for (int level = 0; level < choices.length; level++) {
+            int[] weights = level < SimConstants.WAVE_BLOCK_WEIGHTS.length ? SimConstants.WAVE_BLOCK_WEIGHTS[level] : null;
+            choices[level] = weights == null || weights.length != MAX_BLOCKED ? UNIFORM_CHOICES : buildChoices(weights);
+        }
+        return choices;
+    }
+}
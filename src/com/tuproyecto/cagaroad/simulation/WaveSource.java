@@ -0,0 +1,64 @@
+package com.tuproyecto.cagaroad.simulation;
+
+/**
+ * Fuente de las oleadas de obstáculos de una partida.
+ * La simulación pide una oleada cada vez que la carretera avanza getSpacing() px desde la
+ * anterior: puede venir del generador aleatorio ({@link RandomWaveSource}) o de una pista
+ * precalculada que se lee a medida que avanza la partida. La oleada actual queda en la fuente
+ * hasta la siguiente llamada a next().
+ */
+public interface WaveSource {
+
+    /**
+     * Elige la fuente de oleadas de cada nivel.
+     */
+    interface Provider {
+        /**
+         * @param level El número del nivel (0 para modo infinito).
+         * @return La fuente de ese nivel, o null para usar el generador aleatorio.
+         */
+        WaveSource forLevel(int level);
+    }
+
+    /**
+     * Vuelve al comienzo para una partida nueva (todavía sin oleada actual).
+     * @param seed La semilla de la partida (las pistas precalculadas la ignoran).
+     */
+    void reset(long seed);
+
+    /**
+     * Avanza a la siguiente oleada.
+     * @return false si la fuente no tiene más oleadas.
+     */
+    boolean next();
+
+    /**
+     * @return Cuántos carriles bloquea la oleada actual.
+     */
+    int getCount();
+
+    int getLane(int index);
+
+    int getColorIndex(int index);
+
+    /**
+     * @return Los px que avanza la carretera desde la oleada anterior (o desde la salida) hasta la actual.
+     */
+    int getSpacing();
+
+    /**
+     * @return La longitud del nivel que fija la fuente, o 0 si se usa SimConstants.LEVEL_LENGTHS.
+     */
+    int getLevelLength();
+
+    /**
+     * @return Un valor que identifica la oleada actual, para guardarlo en una instantánea.
+     */
+    long getPosition();
+
+    /**
+     * Vuelve a dejar como actual la oleada identificada por un valor de getPosition().
+     * @param position La posición guardada.
+     */
+    void setPosition(long position);
+}
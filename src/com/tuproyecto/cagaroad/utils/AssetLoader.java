@@ -22,14 +22,19 @@ public class AssetLoader {
     public static BufferedImage loadImage(String fileName) throws IOException {
         // Usa getResourceAsStream para cargar el recurso desde el classpath.
         // La barra diagonal "/" al principio indica la raíz del classpath.
-        InputStream inputStream = AssetLoader.class.getResourceAsStream("/" + fileName);
+        // try-with-resources: ImageIO.read no cierra el stream que recibe.
+        try (InputStream inputStream = AssetLoader.class.getResourceAsStream("/" + fileName)) {
+            if (inputStream == null) {
+                // Si el inputStream es nulo, significa que el archivo no se encontró en el classpath.
+                throw new IOException("No se pudo encontrar el recurso: " + fileName + ". Asegúrate de que está en la carpeta 'resources'.");
+            }
 
-        if (inputStream == null) {
-            // Si el inputStream es nulo, significa que el archivo no se encontró en el classpath.
-            throw new IOException("No se pudo encontrar el recurso: " + fileName + ". Asegúrate de que está en la carpeta 'resources'.");
+            // Lee la imagen del InputStream
+            BufferedImage image = ImageIO.read(inputStream);
+            if (image == null) {
+                throw new IOException("Formato de imagen no reconocido: " + fileName);
+            }
+            return image;
         }
-
-        // Lee la imagen del InputStream
-        return ImageIO.read(inputStream);
     }
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.tuproyecto.cagaroad.utils;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Carga de imágenes en segundo plano con caché.
+ * Las imágenes se decodifican en un pequeño grupo de hilos (GameConstants.ASSET_LOADER_THREADS)
+ * y se entregan como CompletableFuture, así el EDT nunca espera a ImageIO y la ventana aparece
+ * antes de que terminen de cargarse. Si varios pedidos de la misma imagen llegan a la vez, se
+ * decodifica una sola vez y todos reciben el mismo future. Las imágenes ya decodificadas se
+ * guardan en una caché LRU limitada a GameConstants.ASSET_CACHE_MAX_BYTES.
+ * Al decodificarlas se convierten al formato de la pantalla, así dibujarlas luego no exige
+ * convertir cada píxel en el EDT.
+ */
+public final class AssetManager {
+
+    private static final GameLogger LOG = GameLogger.get("AssetManager");
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(
+            GameConstants.ASSET_LOADER_THREADS, new LoaderThreadFactory());
+
+    // Cargas en curso: la primera petición crea el future y las demás lo reutilizan
+    private static final ConcurrentHashMap<String, CompletableFuture<BufferedImage>> pending = new ConcurrentHashMap<>();
+
+    // Caché LRU (orden de acceso); se protege con su propio monitor
+    private static final LinkedHashMap<String, BufferedImage> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private static long cacheBytes;
+
+    private AssetManager() {
+    }
+
+    /**
+     * Empieza a cargar en segundo plano todas las imágenes de un manifiesto, sin esperar.
+     * @param fileNames Los nombres de los archivos dentro de 'resources'.
+     */
+    public static void preload(String... fileNames) {
+        for (String fileName : fileNames) {
+            load(fileName);
+        }
+    }
+
+    /**
+     * Pide una imagen. Si ya está en la caché, el future se devuelve ya completado; si no,
+     * se decodifica en segundo plano (una sola vez aunque se pida desde varios hilos).
+     * Si la carga falla, el future termina con la IOException correspondiente.
+     * @param fileName El nombre del archivo de la imagen (ej: "utp_logo.png").
+     * @return Un future con la imagen decodificada.
+     */
+    public static CompletableFuture<BufferedImage> load(String fileName) {
+        BufferedImage cached = getIfLoaded(fileName);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<BufferedImage> created = new CompletableFuture<>();
+        CompletableFuture<BufferedImage> existing = pending.putIfAbsent(fileName, created);
+        if (existing != null) {
+            return existing;
+        }
+        // Otra carga pudo terminar entre la consulta a la caché y el registro en pending
+        cached = getIfLoaded(fileName);
+        if (cached != null) {
+            pending.remove(fileName, created);
+            created.complete(cached);
+            return created;
+        }
+        executor.execute(() -> decode(fileName, created));
+        return created;
+    }
+
+    /**
+     * Consulta la caché sin bloquear ni lanzar una carga; sirve para dibujar un marcador
+     * de posición mientras la imagen todavía no está lista.
+     * @param fileName El nombre del archivo de la imagen.
+     * @return La imagen si ya está decodificada y en la caché, o null.
+     */
+    public static BufferedImage getIfLoaded(String fileName) {
+        synchronized (cache) {
+            return cache.get(fileName);
+        }
+    }
+
+    /**
+     * @return Los bytes (aproximados) que ocupan las imágenes de la caché.
+     */
+    public static long getCacheBytes() {
+        synchronized (cache) {
+            return cacheBytes;
+        }
+    }
+
+    private static void decode(String fileName, CompletableFuture<BufferedImage> future) {
+        long start = System.nanoTime();
+        try {
+            BufferedImage image = toCompatibleImage(AssetLoader.loadImage(fileName));
+            putInCache(fileName, image);
+            if (GameLogger.DEBUG) {
+                LOG.debug("{} decodificada en {} ms", fileName, (System.nanoTime() - start) / 1_000_000);
+            }
+            future.complete(image);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("No se pudo cargar {}: {}", fileName, e.getMessage());
+            future.completeExceptionally(e);
+        } finally {
+            // Un fallo no queda guardado: la siguiente petición vuelve a intentarlo
+            pending.remove(fileName, future);
+        }
+    }
+
+    private static void putInCache(String fileName, BufferedImage image) {
+        long size = sizeOf(image);
+        if (size > GameConstants.ASSET_CACHE_MAX_BYTES) {
+            return; // No cabe: se entrega igualmente a quien la pidió, pero no se guarda
+        }
+        synchronized (cache) {
+            BufferedImage previous = cache.put(fileName, image);
+            if (previous != null) {
+                cacheBytes -= sizeOf(previous);
+            }
+            cacheBytes += size;
+            Iterator<Map.Entry<String, BufferedImage>> eldest = cache.entrySet().iterator();
+            while (cacheBytes > GameConstants.ASSET_CACHE_MAX_BYTES && eldest.hasNext()) {
+                Map.Entry<String, BufferedImage> entry = eldest.next();
+                cacheBytes -= sizeOf(entry.getValue());
+                eldest.remove();
+            }
+        }
+    }
+
+    // Copia la imagen a una compatible con la pantalla principal si su formato es distinto
+    private static BufferedImage toCompatibleImage(BufferedImage image) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return image;
+        }
+        GraphicsConfiguration configuration = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+        if (image.getColorModel().equals(configuration.getColorModel(image.getTransparency()))) {
+            return image;
+        }
+        BufferedImage compatible = configuration.createCompatibleImage(image.getWidth(), image.getHeight(), image.getTransparency());
+        Graphics2D g2d = compatible.createGraphics();
+        try {
+            g2d.drawImage(image, 0, 0, null);
+        } finally {
+            g2d.dispose();
+        }
+        return compatible;
+    }
+
+    // Estimación del tamaño en memoria: 4 bytes por píxel es el caso habitual (ARGB)
+    private static long sizeOf(BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() * 4;
+    }
+
+    // Hilos demonio con nombre, para que no impidan cerrar el juego
+    private static final class LoaderThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "cagaroad-assets-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,52 +1,69 @@
 package com.tuproyecto.cagaroad.utils;
 
-import java.awt.*;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
 
 /**
  * Clase que contiene constantes globales para el juego.
  * Facilita la configuración y el mantenimiento de valores importantes.
+ * Las reglas de la simulación están en simulation.SimConstants y los colores en rendering.Palette.
  */
 public class GameConstants {
-    // Dimensiones de la ventana
-    public static final int GAME_WIDTH = 800;
-    public static final int GAME_HEIGHT = 600;
-
-    // Colores del juego
-    public static final Color ROAD_COLOR = Color.DARK_GRAY; // Color de la carretera
-    public static final Color ROAD_LINE_COLOR = Color.YELLOW; // Color de las líneas de la carretera
-    public static final Color GRASS_COLOR = new Color(50, 150, 50); // Color del "césped" lateral
-
-    // Dimensiones y propiedades de los autos (volver a las dimensiones que quieres, ajusta si es necesario)
-    public static final int CAR_WIDTH = 60; // Ancho del auto (vuelve al original o ajusta a tu gusto)
-    public static final int CAR_HEIGHT = 100; // Alto del auto (vuelve al original o ajusta a tu gusto)
-
-    public static final int HITBOX_MARGIN = 5; // Margen para las hitboxes
-
-    // Velocidades
-    public static final int PLAYER_SPEED = 10; // Velocidad de movimiento lateral del jugador
-    public static final int GAME_SPEED_BASE = 6; // Velocidad base de desplazamiento del camino y enemigos hacia el jugador
-
-    // Configuración del bucle de juego
-    public static final int DELAY = 20; // Milisegundos entre cada actualización del juego (aprox. 50 FPS)
-
-    // Configuración de la puntuación
-    public static final int SCORE_INTERVAL_MS = 5000; // Intervalo de tiempo (en ms) para sumar puntos
-    public static final int SCORE_PER_INTERVAL = 10; // Puntos ganados por cada intervalo de tiempo
-
-    // Configuración de los carriles de la carretera
-    public static final int NUM_LANES = 3; // Número de carriles en la carretera
-    public static final int LANE_WIDTH = (GameConstants.GAME_WIDTH - 2 * (GameConstants.GAME_WIDTH / 6)) / GameConstants.NUM_LANES;
-
-    // Configuración para la generación de obstáculos
-    public static final long OBSTACLE_SPAWN_INTERVAL_MS = 1000; // Cada cuánto se intenta generar una nueva "oleada" de obstáculos (en ms)
-    public static final int MIN_LANES_FREE_IN_WAVE = 1; // Mínimo de carriles libres en cada oleada
-
-    // Longitudes de los niveles
-    public static final int BASE_LEVEL_LENGTH = 5000; // Longitud base para el Nivel 1
-    public static final int[] LEVEL_LENGTHS = {
-            Integer.MAX_VALUE, // Índice 0: Usado para Modo Infinito
-            BASE_LEVEL_LENGTH, // Índice 1: Nivel 1
-            (int)(BASE_LEVEL_LENGTH * 1.5), // Índice 2: Nivel 2 (50% más largo)
-            (int)(BASE_LEVEL_LENGTH * 2.0)  // Índice 3: Nivel 3 (100% más largo)
+    // Bucle de paso fijo: la simulación avanza siempre SimConstants.TICKS_PER_SECOND pasos por segundo.
+    // Se puede volver al Timer clásico arrancando con -Dcagaroad.loop=timer
+    public static final boolean USE_FIXED_TIMESTEP = !"timer".equalsIgnoreCase(System.getProperty("cagaroad.loop", "fixed"));
+    public static final long TICK_NANOS = 1_000_000_000L / SimConstants.TICKS_PER_SECOND; // Duración de un paso en nanosegundos
+    public static final int MAX_CATCH_UP_TICKS = 5; // Máximo de pasos recuperados en un solo fotograma tras un tirón
+    public static final int LOOP_PULSE_MS = SimConstants.DELAY / 2; // Cada cuánto despierta el Timer para consultar el acumulador
+
+    // Entrada del teclado: cola de eventos que se vacía en cada paso y repetición al mantener una flecha
+    public static final int INPUT_QUEUE_CAPACITY = 64; // Eventos de teclado pendientes como máximo
+    public static final int INPUT_REPEAT_DELAY_TICKS = 10; // Pasos con la flecha mantenida antes de repetir (200 ms)
+    public static final int INPUT_REPEAT_INTERVAL_TICKS = 5; // Pasos entre repeticiones (100 ms)
+
+    // Renderizado activo (Canvas + BufferStrategy) en lugar de repaint(). Se activa con -Dcagaroad.render=active
+    public static final boolean USE_ACTIVE_RENDERING = "active".equalsIgnoreCase(System.getProperty("cagaroad.render", "passive"));
+
+    // Carretera desde una textura pre-renderizada en lugar de figura por figura. Se activa con
+    // -Dcagaroad.road.tile=true; en el pipeline por software (DrawBenchmark) la textura es más lenta
+    public static final boolean ROAD_TILE_ENABLED = Boolean.getBoolean("cagaroad.road.tile");
+
+    // Instrumentación: volcado periódico de métricas a CSV (se activa con -Dcagaroad.perf.dump=true)
+    public static final boolean PERF_DUMP_ENABLED = Boolean.getBoolean("cagaroad.perf.dump");
+    public static final String PERF_DUMP_DIR = "perf"; // Carpeta local donde se guardan los CSV
+    public static final long PERF_DUMP_INTERVAL_MS = 10_000; // Cada cuánto se vuelcan las métricas
+
+    // Grabación de partidas: -Dcagaroad.record=true guarda cada partida en REPLAY_DIR y
+    // -Dcagaroad.replay=<archivo> reproduce una grabación en lugar de leer el teclado
+    public static final boolean RECORD_ENABLED = Boolean.getBoolean("cagaroad.record");
+    public static final String REPLAY_FILE = System.getProperty("cagaroad.replay");
+    public static final String REPLAY_DIR = "replays"; // Carpeta local donde se guardan las grabaciones
+    public static final int REPLAY_SNAPSHOT_INTERVAL_TICKS = 10 * SimConstants.TICKS_PER_SECOND; // Una instantánea cada 10 s de juego
+    public static final int REPLAY_SEEK_TICKS = 10 * SimConstants.TICKS_PER_SECOND; // Salto con RePág/AvPág durante una reproducción
+
+    // Registro (log) asíncrono. Nivel con -Dcagaroad.log.level, archivo con -Dcagaroad.log.file=true
+    public static final int LOG_BUFFER_CAPACITY = 1024; // Mensajes pendientes como máximo (potencia de dos)
+    public static final String LOG_DIR = "logs"; // Carpeta local donde se guardan los archivos de log
+    public static final long LOG_FLUSH_INTERVAL_MS = 20; // Cada cuánto revisa el hilo del log si hay mensajes
+    public static final long LOG_SHUTDOWN_TIMEOUT_MS = 500; // Tiempo máximo para vaciar el log al cerrar
+
+    // Carga de imágenes en segundo plano (AssetManager)
+    public static final String[] ASSET_MANIFEST = { // Recursos que se empiezan a decodificar al arrancar
+            "utp_logo.png",
+            "fisc_logo.png"
     };
-}
\ No newline at end of file
+    public static final int ASSET_LOADER_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+    public static final long ASSET_CACHE_MAX_BYTES = 32L * 1024 * 1024; // Tope de la caché de imágenes decodificadas
+
+    // Calentamiento durante el splash: carga de imágenes, sprites, textura de la carretera y JIT de la simulación.
+    // El splash pasa al menú al terminar, pero nunca antes de SPLASH_MIN_DISPLAY_MS (-Dcagaroad.splash.min.ms)
+    public static final long SPLASH_MIN_DISPLAY_MS = Long.getLong("cagaroad.splash.min.ms", 2500);
+    public static final int WARMUP_SIMULATION_TICKS = 60_000; // Pasos de simulación sin pantalla para calentar el JIT
+
+    // Pistas de nivel precalculadas (ver level.LevelBaker). Con -Dcagaroad.levels=random los niveles vuelven a ser aleatorios
+    public static final boolean USE_LEVEL_TRACKS = !"random".equalsIgnoreCase(System.getProperty("cagaroad.levels", "tracks"));
+    public static final String LEVEL_TRACK_RESOURCE = "levels/nivel%d.cgl"; // Recurso de la pista de cada nivel
+
+    // Modo Infinito: oleadas generadas por adelantado en un hilo en segundo plano (-Dcagaroad.pregen=false lo desactiva)
+    public static final boolean PREGENERATE_WAVES = !"false".equalsIgnoreCase(System.getProperty("cagaroad.pregen", "true"));
+    public static final int WAVE_QUEUE_CAPACITY = 64; // Oleadas preparadas como máximo (potencia de dos)
+}
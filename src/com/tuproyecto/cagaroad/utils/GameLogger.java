@@ -0,0 +1,272 @@
+package com.tuproyecto.cagaroad.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Registro (log) asíncrono del juego.
+ * Quien registra un mensaje solo copia referencias a un hueco de un buffer circular preasignado;
+ * el texto se arma y se escribe en un hilo en segundo plano, así la consola o el archivo nunca
+ * frenan al EDT. Los mensajes usan "{}" como marcador de cada argumento y no se concatena nada
+ * si el nivel está desactivado. Si el buffer se llena, los mensajes nuevos se descartan y se cuentan.
+ *
+ * El nivel mínimo se elige con -Dcagaroad.log.level=DEBUG|INFO|WARN|ERROR|OFF (por defecto INFO)
+ * y con -Dcagaroad.log.file=true los mensajes también se guardan en GameConstants.LOG_DIR.
+ */
+public final class GameLogger {
+
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    private static final Level THRESHOLD = parseLevel(System.getProperty("cagaroad.log.level", "INFO"));
+
+    // Comprobaciones constantes para envolver mensajes caros: if (GameLogger.DEBUG) { ... }
+    public static final boolean DEBUG = THRESHOLD.ordinal() <= Level.DEBUG.ordinal();
+    public static final boolean INFO = THRESHOLD.ordinal() <= Level.INFO.ordinal();
+    public static final boolean WARN = THRESHOLD.ordinal() <= Level.WARN.ordinal();
+    public static final boolean ERROR = THRESHOLD.ordinal() <= Level.ERROR.ordinal();
+
+    private static final int ARGS_PER_SLOT = 3;
+
+    // Buffer circular: varios hilos escriben y solo el hilo del log lee.
+    // sequences[i] indica de qué vuelta es el hueco i: si es igual a la posición, está libre;
+    // si es posición + 1, tiene un mensaje listo para escribir.
+    private static final int CAPACITY = GameConstants.LOG_BUFFER_CAPACITY;
+    private static final int MASK = CAPACITY - 1;
+    private static final AtomicLongArray sequences = new AtomicLongArray(CAPACITY);
+    private static final Level[] levels = new Level[CAPACITY];
+    private static final long[] timestamps = new long[CAPACITY];
+    private static final String[] sources = new String[CAPACITY];
+    private static final String[] patterns = new String[CAPACITY];
+    private static final Object[] args = new Object[CAPACITY * ARGS_PER_SLOT];
+    private static final Throwable[] errors = new Throwable[CAPACITY];
+
+    private static final AtomicLong tail = new AtomicLong(); // Próxima posición a reservar
+    private static long head; // Próxima posición a escribir (solo la usa el hilo del log)
+    private static final AtomicLong dropped = new AtomicLong();
+
+    private static final Thread writerThread;
+    private static volatile boolean stopping;
+
+    static {
+        if ((CAPACITY & MASK) != 0) {
+            throw new IllegalStateException("LOG_BUFFER_CAPACITY debe ser potencia de dos");
+        }
+        for (int i = 0; i < CAPACITY; i++) {
+            sequences.set(i, i);
+        }
+        writerThread = new Thread(GameLogger::runWriter, "cagaroad-log");
+        writerThread.setDaemon(true);
+        if (THRESHOLD != Level.OFF) {
+            writerThread.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(GameLogger::shutdown, "cagaroad-log-flush"));
+        }
+    }
+
+    private final String source;
+
+    private GameLogger(String source) {
+        this.source = source;
+    }
+
+    /**
+     * @param source El nombre que acompaña a cada mensaje (normalmente la clase).
+     * @return Un logger para ese origen.
+     */
+    public static GameLogger get(String source) {
+        return new GameLogger(source);
+    }
+
+    public void debug(String pattern) { log(Level.DEBUG, pattern, null, null, null, null); }
+    public void debug(String pattern, Object a) { log(Level.DEBUG, pattern, a, null, null, null); }
+    public void debug(String pattern, Object a, Object b) { log(Level.DEBUG, pattern, a, b, null, null); }
+    public void debug(String pattern, Object a, Object b, Object c) { log(Level.DEBUG, pattern, a, b, c, null); }
+
+    public void info(String pattern) { log(Level.INFO, pattern, null, null, null, null); }
+    public void info(String pattern, Object a) { log(Level.INFO, pattern, a, null, null, null); }
+    public void info(String pattern, Object a, Object b) { log(Level.INFO, pattern, a, b, null, null); }
+    public void info(String pattern, Object a, Object b, Object c) { log(Level.INFO, pattern, a, b, c, null); }
+
+    public void warn(String pattern) { log(Level.WARN, pattern, null, null, null, null); }
+    public void warn(String pattern, Object a) { log(Level.WARN, pattern, a, null, null, null); }
+    public void warn(String pattern, Object a, Object b) { log(Level.WARN, pattern, a, b, null, null); }
+    public void warn(String pattern, Throwable error) { log(Level.WARN, pattern, null, null, null, error); }
+
+    public void error(String pattern) { log(Level.ERROR, pattern, null, null, null, null); }
+    public void error(String pattern, Object a) { log(Level.ERROR, pattern, a, null, null, null); }
+    public void error(String pattern, Throwable error) { log(Level.ERROR, pattern, null, null, null, error); }
+
+    /**
+     * @return Cuántos mensajes se descartaron por tener el buffer lleno.
+     */
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void log(Level level, String pattern, Object a, Object b, Object c, Throwable error) {
+        if (level.ordinal() < THRESHOLD.ordinal()) {
+            return;
+        }
+        long position;
+        int slot;
+        do {
+            position = tail.get();
+            slot = (int) position & MASK;
+            if (sequences.get(slot) != position) {
+                dropped.incrementAndGet(); // El hilo del log aún no liberó este hueco: el buffer está lleno
+                return;
+            }
+        } while (!tail.compareAndSet(position, position + 1));
+
+        levels[slot] = level;
+        timestamps[slot] = System.currentTimeMillis();
+        sources[slot] = source;
+        patterns[slot] = pattern;
+        args[slot * ARGS_PER_SLOT] = a;
+        args[slot * ARGS_PER_SLOT + 1] = b;
+        args[slot * ARGS_PER_SLOT + 2] = c;
+        errors[slot] = error;
+        sequences.set(slot, position + 1); // Publica el mensaje al hilo del log
+
+        // Los avisos y errores se escriben cuanto antes; también se despierta al hilo cada
+        // octavo de buffer para que una ráfaga de mensajes no lo llene mientras duerme
+        if (level.ordinal() >= Level.WARN.ordinal() || (position & (MASK >> 3)) == 0) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private static void runWriter() {
+        BufferedWriter file = openLogFile();
+        // Las líneas de cada tanda se juntan y se escriben de una vez en la consola y el archivo
+        StringBuilder out = new StringBuilder(4096);
+        StringBuilder err = new StringBuilder(1024);
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+        Date date = new Date();
+
+        while (true) {
+            boolean wrote = false;
+            int slot;
+            while (sequences.get(slot = (int) head & MASK) == head + 1) {
+                Level level = levels[slot];
+                Throwable error = errors[slot];
+                StringBuilder line = level.ordinal() >= Level.WARN.ordinal() ? err : out;
+                int lineStart = line.length();
+                date.setTime(timestamps[slot]);
+                line.append(timeFormat.format(date)).append(' ')
+                        .append(level).append(' ')
+                        .append(sources[slot]).append(": ");
+                appendFormatted(line, patterns[slot], slot);
+                line.append(System.lineSeparator());
+                if (file != null) {
+                    try {
+                        file.append(line, lineStart, line.length());
+                    } catch (IOException e) {
+                        file = null;
+                    }
+                }
+
+                // Libera el hueco para no retener referencias
+                sources[slot] = null;
+                patterns[slot] = null;
+                args[slot * ARGS_PER_SLOT] = null;
+                args[slot * ARGS_PER_SLOT + 1] = null;
+                args[slot * ARGS_PER_SLOT + 2] = null;
+                errors[slot] = null;
+                sequences.set(slot, head + CAPACITY);
+                head++;
+
+                if (error != null) {
+                    flushConsole(out, err);
+                    error.printStackTrace(System.err);
+                }
+                wrote = true;
+            }
+
+            if (wrote) {
+                flushConsole(out, err);
+                if (file != null) {
+                    try {
+                        file.flush();
+                    } catch (IOException e) {
+                        file = null;
+                    }
+                }
+            }
+            if (stopping && sequences.get((int) head & MASK) != head + 1) {
+                return;
+            }
+            if (!wrote) {
+                LockSupport.parkNanos(GameConstants.LOG_FLUSH_INTERVAL_MS * 1_000_000L);
+            }
+        }
+    }
+
+    private static void flushConsole(StringBuilder out, StringBuilder err) {
+        if (out.length() > 0) {
+            System.out.print(out);
+            System.out.flush();
+            out.setLength(0);
+        }
+        if (err.length() > 0) {
+            System.err.print(err);
+            System.err.flush();
+            err.setLength(0);
+        }
+    }
+
+    // Sustituye cada "{}" del patrón por el siguiente argumento del hueco
+    private static void appendFormatted(StringBuilder line, String pattern, int slot) {
+        int argIndex = 0;
+        int start = 0;
+        int marker;
+        while (argIndex < ARGS_PER_SLOT && (marker = pattern.indexOf("{}", start)) >= 0) {
+            line.append(pattern, start, marker).append(args[slot * ARGS_PER_SLOT + argIndex++]);
+            start = marker + 2;
+        }
+        line.append(pattern, start, pattern.length());
+    }
+
+    private static BufferedWriter openLogFile() {
+        if (!Boolean.getBoolean("cagaroad.log.file")) {
+            return null;
+        }
+        try {
+            Path dir = Paths.get(GameConstants.LOG_DIR);
+            Files.createDirectories(dir);
+            String name = "cagaroad-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".log";
+            return Files.newBufferedWriter(dir.resolve(name), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("GameLogger: no se pudo abrir el archivo de log: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Al cerrar el juego se vacía lo que quede en el buffer
+    private static void shutdown() {
+        stopping = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(GameConstants.LOG_SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Level parseLevel(String value) {
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.tuproyecto.cagaroad.analysis;
+
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * La comprobación de oleadas imposibles con el modelo del juego (velocidad lateral PLAYER_SPEED):
+ * las velocidades de SimConstants.LEVEL_MAX_SPEEDS no deben dejar secuencias sin solución, y el
+ * modelo tiene que poder fallar, para que la comprobación no pase siempre.
+ */
+class SolvabilityAnalyzerTest {
+
+    private static final int SEQUENCES = 5_000;
+
+    @Test
+    void noLevelHasImpossibleSequencesAtPlayerSpeed() {
+        long[] impossible = new SolvabilityAnalyzer().analyze(0, SEQUENCES);
+
+        for (int level = 0; level < SimConstants.LEVEL_LENGTHS.length; level++) {
+            assertEquals(0, impossible[level], "secuencias imposibles en el nivel " + level);
+        }
+    }
+
+    @Test
+    void slowLateralSpeedMakesSequencesImpossible() {
+        long[] impossible = new SolvabilityAnalyzer(1).analyze(0, SEQUENCES);
+
+        for (int level = 0; level < SimConstants.LEVEL_LENGTHS.length; level++) {
+            assertTrue(impossible[level] > 0, "el modelo no detecta oleadas imposibles en el nivel " + level);
+        }
+    }
+
+    @Test
+    void isSolvableAgreesWithAnalyze() {
+        SolvabilityAnalyzer analyzer = new SolvabilityAnalyzer(SimConstants.PLAYER_SPEED / 2);
+        for (int level = 0; level < SimConstants.LEVEL_LENGTHS.length; level++) {
+            long[] impossible = analyzer.analyze(100, 1);
+            assertEquals(impossible[level] == 0, analyzer.isSolvable(level, 100), "nivel " + level);
+        }
+    }
+}
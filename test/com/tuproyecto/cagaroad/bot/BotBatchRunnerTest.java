@@ -0,0 +1,58 @@
+package com.tuproyecto.cagaroad.bot;
+
+import com.tuproyecto.cagaroad.level.LevelLibrary;
+import com.tuproyecto.cagaroad.simulation.StepResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * El bot juega las pistas empaquetadas, con las mismas fuentes de oleadas que el juego, y con
+ * semillas fijas sobre oleadas aleatorias termina siempre igual (prueba de regresión de las reglas:
+ * si un cambio altera estos resultados, cambia cómo se juega y hay que subir ReplayFormat.VERSION).
+ */
+class BotBatchRunnerTest {
+
+    private static final int MAX_TICKS = 15_000;
+    private static final int GAMES = 16;
+
+    // Con un horizonte de un solo paso el bot pierde a menudo, así las partidas no terminan todas igual
+    private static final int GOLDEN_LOOKAHEAD = 1;
+    private static final int GOLDEN_MAX_TICKS = 3_000;
+    private static final long GOLDEN_FIRST_SEED = 100L;
+    // "tick puntuación resultado" de cada partida, por nivel (0 = Modo Infinito)
+    private static final String[][] GOLDEN = {
+        {"576 20 DEFEAT", "377 10 DEFEAT", "177 0 DEFEAT", "2066 80 DEFEAT",
+         "427 10 DEFEAT", "2264 90 DEFEAT", "377 10 DEFEAT", "327 10 DEFEAT"},
+        {"574 20 DEFEAT", "376 10 DEFEAT", "177 0 DEFEAT", "826 30 VICTORY",
+         "425 10 DEFEAT", "826 30 VICTORY", "376 10 DEFEAT", "326 10 DEFEAT"},
+        {"573 20 DEFEAT", "376 10 DEFEAT", "177 0 DEFEAT", "1231 40 VICTORY",
+         "425 10 DEFEAT", "1231 40 VICTORY", "376 10 DEFEAT", "326 10 DEFEAT"},
+        {"572 20 DEFEAT", "375 10 DEFEAT", "177 0 DEFEAT", "1624 60 VICTORY",
+         "424 10 DEFEAT", "1624 60 VICTORY", "375 10 DEFEAT", "326 10 DEFEAT"},
+    };
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void botWinsTheShippedTracks(int level) {
+        BotBatchRunner runner = new BotBatchRunner(MAX_TICKS, AutopilotBot.DEFAULT_LOOKAHEAD_TICKS, LevelLibrary::new);
+        BotBatchRunner.LevelReport report = runner.run(level, GAMES, 1L);
+        assertEquals(GAMES, report.count(StepResult.VICTORY), "el bot perdió en la pista del nivel " + level);
+    }
+
+    @Test
+    void fixedSeedsGiveTheGoldenResults() {
+        BotBatchRunner runner = new BotBatchRunner(GOLDEN_MAX_TICKS, GOLDEN_LOOKAHEAD);
+        for (int level = 0; level < GOLDEN.length; level++) {
+            BotBatchRunner.LevelReport report = runner.run(level, GOLDEN[level].length, GOLDEN_FIRST_SEED);
+            String[] actual = new String[GOLDEN[level].length];
+            for (int game = 0; game < actual.length; game++) {
+                actual[game] = report.ticks[game] + " " + report.scores[game] + " " + report.results[game];
+            }
+            assertArrayEquals(GOLDEN[level], actual, "nivel " + level);
+        }
+    }
+}
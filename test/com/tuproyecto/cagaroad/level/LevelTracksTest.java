@@ -0,0 +1,63 @@
+package com.tuproyecto.cagaroad.level;
+
+import com.tuproyecto.cagaroad.analysis.SolvabilityAnalyzer;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import com.tuproyecto.cagaroad.utils.GameConstants;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Las pistas empaquetadas de los Niveles 1 a 3: se leen enteras, tienen solución según el analizador
+ * y son las que hoy genera LevelBaker (si cambian las reglas o el generador, hay que volver a generarlas).
+ */
+class LevelTracksTest {
+
+    private static final long BAKE_FIRST_SEED = 1L; // La semilla inicial por defecto de LevelBaker
+
+    @TempDir
+    Path dir;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void shippedTrackLoadsAndIsSolvable(int level) throws IOException {
+        TrackWaveSource track = TrackWaveSource.fromResource(resource(level));
+        assertNotNull(track, "falta la pista " + resource(level));
+        assertEquals(SimConstants.LEVEL_LENGTHS[level], track.getLevelLength());
+
+        int waves = 0;
+        track.reset(0);
+        while (track.next()) {
+            waves++;
+        }
+        assertEquals(track.getWaveCount(), waves, "la pista terminó antes de tiempo");
+        assertTrue(new SolvabilityAnalyzer().isSolvable(level, track), "la pista del nivel " + level + " no tiene solución");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void shippedTrackMatchesTheBaker(int level) throws IOException {
+        Path file = dir.resolve("nivel" + level + ".cgl");
+        new LevelBaker().bake(level, BAKE_FIRST_SEED + level, file);
+
+        try (InputStream in = LevelTracksTest.class.getResourceAsStream("/" + resource(level))) {
+            assertNotNull(in, "falta la pista " + resource(level));
+            assertArrayEquals(Files.readAllBytes(file), in.readAllBytes(),
+                    "la pista del nivel " + level + " no es la que genera LevelBaker; hay que volver a generarla");
+        }
+    }
+
+    private static String resource(int level) {
+        return String.format(GameConstants.LEVEL_TRACK_RESOURCE, level);
+    }
+}
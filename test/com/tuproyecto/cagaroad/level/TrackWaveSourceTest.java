@@ -0,0 +1,94 @@
+package com.tuproyecto.cagaroad.level;
+
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Escritura y lectura de pistas (.cgl), incluidos los índices de color fuera de la paleta.
+ */
+class TrackWaveSourceTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void wavesRoundTripThroughTheFile() throws IOException {
+        Path file = dir.resolve("pista.cgl");
+        int[] colors = new int[SimConstants.NUM_LANES];
+        try (TrackWriter writer = new TrackWriter(Files.newOutputStream(file), 1000, 2)) {
+            colors[0] = SimConstants.OBSTACLE_COLOR_COUNT - 1;
+            writer.writeWave(300, 0b001, colors);
+            colors[1] = 2;
+            colors[2] = 0;
+            writer.writeWave(450, 0b110, colors);
+        }
+
+        TrackWaveSource track = TrackWaveSource.fromFile(file);
+        assertEquals(1000, track.getLevelLength());
+        assertTrue(track.next());
+        assertEquals(300, track.getSpacing());
+        assertEquals(1, track.getCount());
+        assertEquals(0, track.getLane(0));
+        assertEquals(SimConstants.OBSTACLE_COLOR_COUNT - 1, track.getColorIndex(0));
+        assertTrue(track.next());
+        assertEquals(450, track.getSpacing());
+        assertEquals(2, track.getCount());
+        assertEquals(2, track.getColorIndex(0));
+        assertEquals(0, track.getColorIndex(1));
+        assertFalse(track.next());
+    }
+
+    @Test
+    void writerRejectsColorsOutsideThePalette() throws IOException {
+        int[] colors = new int[SimConstants.NUM_LANES];
+        try (TrackWriter writer = new TrackWriter(Files.newOutputStream(dir.resolve("mala.cgl")), 1000, 1)) {
+            colors[0] = SimConstants.OBSTACLE_COLOR_COUNT;
+            assertThrows(IOException.class, () -> writer.writeWave(300, 0b001, colors));
+            colors[0] = 9; // Antes se recortaba en silencio a 9 & 7 = 1
+            assertThrows(IOException.class, () -> writer.writeWave(300, 0b001, colors));
+            colors[0] = -1;
+            assertThrows(IOException.class, () -> writer.writeWave(300, 0b001, colors));
+            colors[0] = 0;
+            colors[1] = 9; // Carril libre: su color no se guarda
+            writer.writeWave(300, 0b001, colors);
+        }
+    }
+
+    @Test
+    void readerStopsTheTrackAtAnOutOfRangeColor() throws IOException {
+        // Pista bien formada pero con el índice de color 7, que el campo de 3 bits admite y la paleta no
+        Path file = dir.resolve("corrupta.cgl");
+        int[] colors = new int[LevelFormat.MAX_LANES];
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(LevelFormat.MAGIC);
+            out.writeInt(LevelFormat.VERSION);
+            out.writeInt(SimConstants.NUM_LANES);
+            out.writeInt(1000);
+            out.writeInt(3);
+            out.writeShort(300);
+            out.writeInt(LevelFormat.packWave(0b001, colors));
+            colors[1] = LevelFormat.COLOR_MASK;
+            out.writeShort(300);
+            out.writeInt(LevelFormat.packWave(0b010, colors));
+            out.writeShort(300);
+            out.writeInt(LevelFormat.packWave(0b100, new int[LevelFormat.MAX_LANES]));
+        }
+
+        TrackWaveSource track = TrackWaveSource.fromFile(file);
+        assertTrue(track.next());
+        assertFalse(track.next(), "la oleada con color 7 debería terminar la pista");
+        assertEquals(0, track.getCount());
+        assertFalse(track.next());
+    }
+}
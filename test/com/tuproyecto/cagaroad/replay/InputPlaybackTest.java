@@ -0,0 +1,165 @@
+package com.tuproyecto.cagaroad.replay;
+
+import com.tuproyecto.cagaroad.bot.AutopilotBot;
+import com.tuproyecto.cagaroad.level.LevelLibrary;
+import com.tuproyecto.cagaroad.simulation.GameRandom;
+import com.tuproyecto.cagaroad.simulation.PlayerInput;
+import com.tuproyecto.cagaroad.simulation.SimConstants;
+import com.tuproyecto.cagaroad.simulation.Simulation;
+import com.tuproyecto.cagaroad.simulation.StepResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Grabar una partida y reproducirla sin pantalla tiene que dar el mismo final, en todos los niveles
+ * y con las mismas fuentes de oleadas que el juego (pistas y cola pregenerada del Modo Infinito).
+ * Saltar con seek() tiene que dejar la simulación igual que reproducir la partida desde el comienzo.
+ */
+class InputPlaybackTest {
+
+    private static final int GAMES = 50;
+    private static final int MAX_TICKS = 3_000; // Corta las partidas del Modo Infinito
+    private static final int SNAPSHOT_INTERVAL = 100;
+    private static final int CAR_COLOR = 0xFF3366CC;
+    private static final int SEEKS_PER_GAME = 20;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recordedGamesReplayToTheSameEnd() throws IOException {
+        Simulation recording = new Simulation(0, new LevelLibrary());
+        Simulation replaying = new Simulation(0, new LevelLibrary());
+        InputRecorder recorder = new InputRecorder(SNAPSHOT_INTERVAL);
+        Set<StepResult> results = EnumSet.noneOf(StepResult.class);
+
+        for (int game = 0; game < GAMES; game++) {
+            int level = game % SimConstants.LEVEL_LENGTHS.length;
+            Path file = record(recording, recorder, level, game, game);
+            results.add(recording.getResult());
+
+            InputPlayback playback = InputPlayback.load(file);
+            assertEquals(game, playback.getSeed());
+            assertEquals(level, playback.getLevel());
+            assertEquals(CAR_COLOR, playback.getCarColorRgb());
+            assertTrue(playback.runHeadless(replaying), "la partida " + game + " (nivel " + level + ") no se reprodujo igual");
+            assertEquals(recording.getCurrentProgress(), replaying.getCurrentProgress(), "partida " + game);
+        }
+        assertEquals(EnumSet.allOf(StepResult.class), results, "las partidas no cubren todos los resultados");
+    }
+
+    @Test
+    void seekMatchesStraightReplay() throws IOException {
+        Simulation recording = new Simulation(0, new LevelLibrary());
+        Simulation straight = new Simulation(0, new LevelLibrary());
+        Simulation seeked = new Simulation(0, new LevelLibrary());
+        InputRecorder recorder = new InputRecorder(SNAPSHOT_INTERVAL);
+        GameRandom random = new GameRandom(99L);
+
+        for (int game = 0; game < 2 * SimConstants.LEVEL_LENGTHS.length; game++) {
+            int level = game % SimConstants.LEVEL_LENGTHS.length;
+            Path file = record(recording, recorder, level, 1000L + game, game);
+            InputPlayback straightPlayback = InputPlayback.load(file);
+            InputPlayback seekPlayback = InputPlayback.load(file);
+            long finalTick = seekPlayback.getExpectedFinalTick();
+            assertTrue(seekPlayback.getSnapshotCount() > 1, "la partida " + game + " es demasiado corta para probar seek");
+
+            // El comienzo, los bordes de las instantáneas, el final y saltos al azar (hacia atrás también)
+            long[] targets = new long[SEEKS_PER_GAME];
+            targets[0] = 0;
+            targets[1] = SNAPSHOT_INTERVAL - 1;
+            targets[2] = SNAPSHOT_INTERVAL;
+            targets[3] = SNAPSHOT_INTERVAL + 1;
+            targets[4] = finalTick;
+            for (int i = 5; i < targets.length; i++) {
+                targets[i] = (long) (random.nextDouble() * (finalTick + 1));
+            }
+            for (long target : targets) {
+                String where = "partida " + game + " (nivel " + level + "), tick " + target;
+                seekPlayback.seek(seeked, target);
+                replayTo(straightPlayback, straight, target);
+                assertSameState(straight, seeked, where);
+            }
+
+            // Desde un salto la partida sigue hasta el mismo final
+            seekPlayback.seek(seeked, finalTick / 2);
+            while (seeked.getResult() == StepResult.RUNNING && seeked.getTick() < finalTick) {
+                seeked.step(seekPlayback.inputForTick(seeked.getTick()));
+            }
+            assertTrue(seekPlayback.matches(seeked), "partida " + game + ": el final después de seek no coincide");
+        }
+    }
+
+    @Test
+    void otherVersionIsRejected() throws IOException {
+        Path file = record(new Simulation(0), new InputRecorder(SNAPSHOT_INTERVAL), 1, 7L, 0);
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        bytes.putInt(ReplayFormat.OFFSET_VERSION, ReplayFormat.VERSION - 1);
+        Files.write(file, bytes.array());
+
+        IOException e = assertThrows(IOException.class, () -> InputPlayback.load(file));
+        assertTrue(e.getMessage().contains("Versión"), e.getMessage());
+    }
+
+    @Test
+    void truncatedFileIsRejected() throws IOException {
+        Path file = record(new Simulation(0), new InputRecorder(SNAPSHOT_INTERVAL), 1, 7L, 0);
+        byte[] bytes = Files.readAllBytes(file);
+
+        Path truncated = dir.resolve("truncada.cgr");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> InputPlayback.load(truncated));
+        Files.write(truncated, Arrays.copyOf(bytes, ReplayFormat.HEADER_SIZE - 1));
+        assertThrows(IOException.class, () -> InputPlayback.load(truncated));
+    }
+
+    private static void replayTo(InputPlayback playback, Simulation simulation, long targetTick) {
+        playback.rewind();
+        simulation.reset(playback.getLevel(), playback.getSeed());
+        while (simulation.getResult() == StepResult.RUNNING && simulation.getTick() < targetTick) {
+            simulation.step(playback.inputForTick(simulation.getTick()));
+        }
+    }
+
+    private static void assertSameState(Simulation expected, Simulation actual, String where) {
+        assertEquals(expected.getTick(), actual.getTick(), where + ": tick");
+        assertEquals(expected.getResult(), actual.getResult(), where + ": resultado");
+        assertEquals(expected.getScore(), actual.getScore(), where + ": puntuación");
+        assertEquals(expected.getCurrentProgress(), actual.getCurrentProgress(), where + ": progreso");
+        assertEquals(expected.getPlayerLane(), actual.getPlayerLane(), where + ": carril");
+        assertEquals(expected.getMotion().getSpeed(), actual.getMotion().getSpeed(), where + ": velocidad");
+        assertEquals(expected.getMotion().getRemainder(), actual.getMotion().getRemainder(), where + ": resto");
+        assertEquals(expected.getObstacleCount(), actual.getObstacleCount(), where + ": obstáculos");
+        for (int i = 0; i < expected.getObstacleCount(); i++) {
+            assertEquals(expected.getObstacleLane(i), actual.getObstacleLane(i), where + ": carril del obstáculo " + i);
+            assertEquals(expected.getObstacleY(i), actual.getObstacleY(i), where + ": Y del obstáculo " + i);
+        }
+    }
+
+    // Juega una partida con el bot (con un horizonte corto en una de cada tres, para que pierda) y la graba
+    private Path record(Simulation simulation, InputRecorder recorder, int level, long seed, int game) throws IOException {
+        AutopilotBot bot = new AutopilotBot(game % 3 == 0 ? 1 : AutopilotBot.DEFAULT_LOOKAHEAD_TICKS);
+        simulation.reset(level, seed);
+        recorder.start(seed, level, CAR_COLOR);
+        while (simulation.getResult() == StepResult.RUNNING && simulation.getTick() < MAX_TICKS) {
+            PlayerInput input = bot.decide(simulation);
+            recorder.recordStep(simulation, input);
+            simulation.step(input);
+        }
+        Path file = dir.resolve("partida" + game + ".cgr");
+        recorder.finish(file, simulation.getTick(), simulation.getScore(), simulation.getResult());
+        return file;
+    }
+}
@@ -0,0 +1,75 @@
+package com.tuproyecto.cagaroad.simulation;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * La prueba continua tiene que dar lo mismo que mover el obstáculo de a 1 px y probar cada
+ * posición, también con desplazamientos más grandes que la hitbox o que la pantalla y en el borde
+ * donde la Simulation elimina los obstáculos (cullY).
+ */
+class CollisionSystemTest {
+
+    private static final int H = CollisionSystem.HITBOX_HEIGHT;
+    private static final int W = CollisionSystem.HITBOX_WIDTH;
+
+    static IntStream displacements() {
+        return IntStream.of(0, 1, 2, 7, H - 1, H, H + 1, 2 * H + 3,
+                SimConstants.GAME_HEIGHT - 1, SimConstants.GAME_HEIGHT, SimConstants.GAME_HEIGHT + 37);
+    }
+
+    @ParameterizedTest
+    @MethodSource("displacements")
+    void sweptOverlapMatchesSubSteps(int dy) {
+        int ax = Simulation.laneToX(1);
+        int ay = Simulation.PLAYER_Y;
+        for (int bx = ax - W - 2; bx <= ax + W + 2; bx++) {
+            for (int by = ay - 2 * H; by <= ay + dy + 2 * H; by++) {
+                assertEquals(bruteForce(ax, ay, bx, by, dy), CollisionSystem.sweptHitboxesOverlap(ax, ay, bx, by, dy),
+                        "bx=" + bx + " by=" + by + " dy=" + dy);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("displacements")
+    void collidesMatchesSubStepsUpToTheCullBoundary(int displacement) {
+        // El mismo límite que usa Simulation.step()
+        int cullY = Math.max(SimConstants.GAME_HEIGHT, Simulation.PLAYER_Y + H - 1 + displacement);
+        ObstacleStore obstacles = new ObstacleStore();
+        CollisionSystem collisions = new CollisionSystem();
+
+        for (int playerLane = 0; playerLane < SimConstants.NUM_LANES; playerLane++) {
+            int playerX = Simulation.laneToX(playerLane);
+            for (int lane = 0; lane < SimConstants.NUM_LANES; lane++) {
+                int x = Simulation.laneToX(lane);
+                for (int finalY = Simulation.PLAYER_Y - 2 * H; finalY <= cullY + 2; finalY++) {
+                    obstacles.clear();
+                    obstacles.acquire(x, finalY - displacement, lane, 0);
+                    obstacles.advance(displacement, cullY, collisions);
+
+                    boolean expected = bruteForce(playerX, Simulation.PLAYER_Y, x, finalY, displacement);
+                    assertEquals(expected, collisions.collides(obstacles, playerLane, playerX, Simulation.PLAYER_Y, displacement),
+                            "carril " + playerLane + " contra " + lane + ", Y final " + finalY + ", desplazamiento " + displacement);
+                    if (finalY > cullY) {
+                        assertEquals(0, obstacles.size(), "no se eliminó un obstáculo por debajo de cullY");
+                    }
+                }
+            }
+        }
+    }
+
+    // b bajó de by - dy a by: se prueba cada posición intermedia, de a 1 px
+    private static boolean bruteForce(int ax, int ay, int bx, int by, int dy) {
+        for (int step = 0; step <= dy; step++) {
+            if (CollisionSystem.hitboxesOverlap(ax, ay, bx, by - dy + step)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,126 @@
+package com.tuproyecto.cagaroad.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * El pool de obstáculos: el orden que deja la eliminación por intercambio, el crecimiento acotado
+ * por maxCapacity y que en régimen estable no reserve memoria (pasado el calentamiento, cada
+ * obstáculo nuevo reutiliza una ranura que liberó otro que salió de la pantalla).
+ */
+class ObstacleStoreTest {
+
+    private static final int WARM_UP_TICKS = 2_000;
+    private static final int MEASURED_TICKS = 20_000;
+    // Guion fijo de oleadas: la máscara de carriles ocupados de cada una, en ciclo
+    private static final int[] WAVE_SCRIPT = {0b011, 0b110, 0b101, 0b001, 0b100, 0b010, 0b011, 0b101};
+
+    // Estado del guion (JUnit crea una instancia por test)
+    private int waveDistance;
+    private int nextWave;
+
+    @Test
+    void releaseMovesTheLastObstacleIntoTheFreedSlot() {
+        ObstacleStore obstacles = new ObstacleStore();
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, obstacles.acquire(10 * i, 100 * i, i % SimConstants.NUM_LANES, i));
+        }
+
+        obstacles.release(1); // El último (3) pasa a la posición 1
+        assertEquals(3, obstacles.size());
+        assertObstacle(obstacles, 0, 0);
+        assertObstacle(obstacles, 1, 3);
+        assertObstacle(obstacles, 2, 2);
+
+        obstacles.release(2); // Liberar el último no mueve nada
+        assertEquals(2, obstacles.size());
+        assertObstacle(obstacles, 0, 0);
+        assertObstacle(obstacles, 1, 3);
+
+        assertEquals(2, obstacles.acquire(40, 400, 1, 4), "la ranura liberada no se reutilizó");
+        assertObstacle(obstacles, 2, 4);
+    }
+
+    @Test
+    void growthStopsAtMaxObstacles() {
+        ObstacleStore obstacles = new ObstacleStore();
+        int initialCapacity = obstacles.capacity();
+        for (int i = 0; i < SimConstants.MAX_OBSTACLES; i++) {
+            assertEquals(i, obstacles.acquire(0, i, 0, 0));
+        }
+        assertEquals(SimConstants.MAX_OBSTACLES, obstacles.capacity());
+        assertEquals(SimConstants.MAX_OBSTACLES, obstacles.getHighWaterMark());
+        // Una reserva por cada duplicación de la capacidad
+        int growths = Integer.numberOfTrailingZeros(SimConstants.MAX_OBSTACLES / initialCapacity);
+        assertEquals(growths, obstacles.getMisses());
+        assertEquals(SimConstants.MAX_OBSTACLES - growths, obstacles.getHits());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(-1, obstacles.acquire(0, 0, 0, 0), "se pasó de MAX_OBSTACLES");
+        }
+        assertEquals(3, obstacles.getRejected());
+        assertEquals(SimConstants.MAX_OBSTACLES, obstacles.size());
+        assertEquals(SimConstants.MAX_OBSTACLES, obstacles.capacity());
+
+        obstacles.release(0);
+        obstacles.resetStatistics();
+        assertEquals(SimConstants.MAX_OBSTACLES - 1, obstacles.acquire(0, 0, 0, 0), "no se reutilizó la ranura liberada");
+        assertEquals(1, obstacles.getHits());
+        assertEquals(0, obstacles.getMisses());
+        assertEquals(0, obstacles.getRejected());
+    }
+
+    @Test
+    void steadyStateTicksDoNotGrowThePool() {
+        // Capacidad inicial mínima para que el calentamiento tenga que crecer
+        ObstacleStore obstacles = new ObstacleStore(1, SimConstants.MAX_OBSTACLES);
+        CollisionSystem collisions = new CollisionSystem();
+        ScrollMotion motion = new ScrollMotion();
+        motion.reset(0); // Modo Infinito: la velocidad sigue subiendo durante toda la medición
+
+        for (int i = 0; i < WARM_UP_TICKS; i++) {
+            scriptedTick(obstacles, collisions, motion);
+        }
+        assertTrue(obstacles.getMisses() > 0, "el calentamiento no llegó a agrandar el pool");
+
+        obstacles.resetStatistics();
+        int capacity = obstacles.capacity();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            scriptedTick(obstacles, collisions, motion);
+        }
+
+        assertTrue(obstacles.getHits() > 0, "no apareció ningún obstáculo durante la medición");
+        assertEquals(0, obstacles.getMisses(), "el pool tuvo que crecer");
+        assertEquals(0, obstacles.getRejected(), "se descartaron obstáculos");
+        assertEquals(capacity, obstacles.capacity(), "cambió la capacidad del pool");
+    }
+
+    // Un paso como el de Simulation.step(): aparecen las oleadas del guion que tocan y luego se
+    // mueven y eliminan los obstáculos con el mismo cullY
+    private void scriptedTick(ObstacleStore obstacles, CollisionSystem collisions, ScrollMotion motion) {
+        int distance = motion.advance();
+        waveDistance += distance;
+        while (waveDistance >= SimConstants.WAVE_SPACING) {
+            waveDistance -= SimConstants.WAVE_SPACING;
+            int blocked = WAVE_SCRIPT[nextWave++ % WAVE_SCRIPT.length];
+            for (int lane = 0; lane < SimConstants.NUM_LANES; lane++) {
+                if ((blocked & (1 << lane)) != 0) {
+                    int y = -SimConstants.CAR_HEIGHT + waveDistance - distance;
+                    obstacles.acquire(Simulation.laneToX(lane), y, lane, lane);
+                }
+            }
+        }
+        int cullY = Math.max(SimConstants.GAME_HEIGHT, Simulation.PLAYER_Y + CollisionSystem.HITBOX_HEIGHT - 1 + distance);
+        obstacles.advance(distance, cullY, collisions);
+    }
+
+    // Los obstáculos del primer test llevan sus datos derivados del orden en que se pidieron
+    private static void assertObstacle(ObstacleStore obstacles, int index, int original) {
+        assertEquals(10 * original, obstacles.getX(index), "x en " + index);
+        assertEquals(100 * original, obstacles.getY(index), "y en " + index);
+        assertEquals(original % SimConstants.NUM_LANES, obstacles.getLane(index), "carril en " + index);
+        assertEquals(original, obstacles.getColorIndex(index), "color en " + index);
+    }
+}
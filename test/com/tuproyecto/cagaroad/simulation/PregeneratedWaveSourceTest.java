@@ -0,0 +1,75 @@
+package com.tuproyecto.cagaroad.simulation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * La cola pregenerada tiene que entregar exactamente las oleadas de RandomWaveSource en el Modo
+ * Infinito, con cualquier tamaño de cola, después de saltos con setPosition() y cuando el productor
+ * no llega a tiempo y el consumidor genera las oleadas él mismo.
+ */
+class PregeneratedWaveSourceTest {
+
+    private static final int WAVES = 5_000;
+    private static final int SEEKS = 200;
+    private static final int WAVES_PER_SEEK = 50;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 64})
+    void sameWavesAsRandomSource(int capacity) {
+        assertSameWaves(new PregeneratedWaveSource(capacity));
+    }
+
+    @Test
+    void inlineFallbackGivesTheSameWaves() {
+        PregeneratedWaveSource source = new PregeneratedWaveSource(1, false); // El productor nunca entrega nada
+        assertSameWaves(source);
+        assertEquals(WAVES + SEEKS * (WAVES_PER_SEEK + 1), source.getInlineWaveCount(),
+                "alguna oleada no se generó en el consumidor");
+    }
+
+    private static void assertSameWaves(PregeneratedWaveSource source) {
+        RandomWaveSource expected = new RandomWaveSource();
+        expected.setLevel(0);
+        GameRandom random = new GameRandom(12345L);
+        long seed = random.nextLong();
+        expected.reset(seed);
+        source.reset(seed);
+
+        // Recorrido seguido, guardando las posiciones para los saltos
+        long[] positions = new long[WAVES];
+        for (int wave = 0; wave < WAVES; wave++) {
+            assertTrue(expected.next());
+            assertTrue(source.next());
+            positions[wave] = expected.getPosition();
+            assertSameWave(expected, source, "oleada " + wave);
+        }
+
+        // Saltos al azar, hacia adelante y hacia atrás, como al restaurar una instantánea
+        for (int seek = 0; seek < SEEKS; seek++) {
+            int wave = random.nextInt(WAVES);
+            expected.setPosition(positions[wave]);
+            source.setPosition(positions[wave]);
+            assertSameWave(expected, source, "salto " + seek + " a la oleada " + wave);
+            for (int i = 1; i <= WAVES_PER_SEEK; i++) {
+                expected.next();
+                source.next();
+                assertSameWave(expected, source, "salto " + seek + " a la oleada " + wave + ", +" + i);
+            }
+        }
+    }
+
+    private static void assertSameWave(WaveSource expected, WaveSource actual, String where) {
+        assertEquals(expected.getPosition(), actual.getPosition(), where + ": posición");
+        assertEquals(expected.getSpacing(), actual.getSpacing(), where + ": separación");
+        assertEquals(expected.getCount(), actual.getCount(), where + ": obstáculos");
+        for (int i = 0; i < expected.getCount(); i++) {
+            assertEquals(expected.getLane(i), actual.getLane(i), where + ": carril " + i);
+            assertEquals(expected.getColorIndex(i), actual.getColorIndex(i), where + ": color " + i);
+        }
+    }
+}